@@ -0,0 +1,74 @@
+package benchmarks;
+
+import functions.ArrayTabulatedFunction;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+//apply у ArrayTabulatedFunction: бинарный поиск против прежнего линейного прохода
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayApplyBenchmark {
+    private static final int QUERIES = 1024;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private ArrayTabulatedFunction function;
+    private double[] xVal;
+    private double[] yVal;
+    private double[] xs;
+
+    @Setup
+    public void setUp() {
+        function = new ArrayTabulatedFunction(BenchmarkFunctions.SIN, 0.0, 1000.0, size);
+        xVal = function.getxVal();
+        yVal = function.getyVal();
+        Random random = new Random(size);
+        xs = new double[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            xs[i] = random.nextDouble() * 1000.0;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void binaryApply(Blackhole blackhole) {
+        for (double x : xs) {
+            blackhole.consume(function.apply(x));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void linearApply(Blackhole blackhole) {
+        for (double x : xs) {
+            blackhole.consume(linearApply(xVal, yVal, x));
+        }
+    }
+
+    //Прежний алгоритм apply: полный проход indexOfX и затем floorIndexOfX
+    private static double linearApply(double[] xVal, double[] yVal, double x) {
+        int count = xVal.length;
+        for (int i = 0; i < count; i++) {
+            if (Math.abs(xVal[i] - x) < 1e-10) {
+                return yVal[i];
+            }
+        }
+        int floorIndex = count - 1;
+        for (int i = 0; i < count - 1; i++) {
+            if (x < xVal[i + 1]) {
+                floorIndex = i;
+                break;
+            }
+        }
+        return yVal[floorIndex] + (yVal[floorIndex + 1] - yVal[floorIndex])
+                * (x - xVal[floorIndex]) / (xVal[floorIndex + 1] - xVal[floorIndex]);
+    }
+}
@@ -0,0 +1,26 @@
+package benchmarks;
+
+import functions.ArrayTabulatedFunction;
+import functions.LinkedListTabulatedFunction;
+import functions.MathFunction;
+import functions.TabulatedFunction;
+
+//Общие заготовки функций для бенчмарков: sin на [0, 1000]
+final class BenchmarkFunctions {
+    static final MathFunction SIN = Math::sin;
+
+    private BenchmarkFunctions() {
+    }
+
+    static TabulatedFunction create(String backend, int size) {
+        return switch (backend) {
+            case "array" -> new ArrayTabulatedFunction(SIN, 0.0, 1000.0, size);
+            case "linkedList" -> new LinkedListTabulatedFunction(SIN, 0.0, 1000.0, size);
+            case "linkedListIndexed" -> {
+                ArrayTabulatedFunction source = new ArrayTabulatedFunction(SIN, 0.0, 1000.0, size);
+                yield new LinkedListTabulatedFunction(source.getxVal(), source.getyVal(), true);
+            }
+            default -> throw new IllegalArgumentException("Неизвестный бэкенд: " + backend);
+        };
+    }
+}
@@ -0,0 +1,65 @@
+package benchmarks;
+
+import functions.CompositionOptimizer;
+import functions.IdentityFunction;
+import functions.MathFunction;
+import functions.SqrFunction;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+//apply глубокой композиции из andThen: вложенные CompositeFunction против CompositionOptimizer
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompositionBenchmark {
+    private static final int QUERIES = 1024;
+
+    @Param({"3", "8", "32"})
+    public int depth;
+
+    private MathFunction nested;
+    private MathFunction optimized;
+    private double[] xs;
+    private double[] out;
+
+    @Setup
+    public void setUp() {
+        //разные классы звеньев, чтобы вызовы внутри CompositeFunction были мегаморфными
+        MathFunction[] stages = {new SqrFunction(), Math::sqrt, new IdentityFunction(), x -> x + 1, BenchmarkFunctions.SIN};
+        nested = stages[0];
+        for (int k = 1; k < depth; k++) {
+            nested = nested.andThen(stages[k % stages.length]);
+        }
+        optimized = CompositionOptimizer.optimize(nested);
+
+        Random random = new Random(42);
+        xs = new double[QUERIES];
+        out = new double[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            xs[i] = random.nextDouble();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public double[] nestedApply() {
+        for (int i = 0; i < QUERIES; i++) {
+            out[i] = nested.apply(xs[i]);
+        }
+        return out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public double[] optimizedApply() {
+        for (int i = 0; i < QUERIES; i++) {
+            out[i] = optimized.apply(xs[i]);
+        }
+        return out;
+    }
+}
@@ -0,0 +1,118 @@
+package benchmarks;
+
+import functions.ArrayTabulatedFunction;
+import functions.MappedTabulatedFunction;
+import functions.TabulatedFunction;
+import functions.factory.ArrayTabulatedFunctionFactory;
+import io.FunctionsIO;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+//Запись и чтение таблицы во всех форматах FunctionsIO (в памяти, кроме отображаемого файла)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FunctionsIOBenchmark {
+
+    @Param({"text", "binary", "serialization", "xml", "json", "mapped"})
+    public String format;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private ArrayTabulatedFunction function;
+    private byte[] written;
+    private Path mappedFile;
+    private final ArrayTabulatedFunctionFactory factory = new ArrayTabulatedFunctionFactory();
+
+    @Setup
+    public void setUp() throws IOException {
+        //текстовый формат пишет в локали по умолчанию, а читает в русской — выравниваем их в форке
+        Locale.setDefault(Locale.forLanguageTag("ru"));
+        function = new ArrayTabulatedFunction(BenchmarkFunctions.SIN, 0.0, 1000.0, size);
+        mappedFile = Files.createTempFile("functions-io-benchmark", ".tabf");
+        written = write();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(mappedFile);
+    }
+
+    @Benchmark
+    public byte[] write() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        switch (format) {
+            case "text" -> {
+                BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(bytes, StandardCharsets.UTF_8));
+                FunctionsIO.writeTabulatedFunction(writer, function);
+                writer.flush();
+            }
+            case "binary" -> {
+                BufferedOutputStream stream = new BufferedOutputStream(bytes);
+                FunctionsIO.writeTabulatedFunction(stream, function);
+            }
+            case "serialization" -> {
+                BufferedOutputStream stream = new BufferedOutputStream(bytes);
+                FunctionsIO.serialize(stream, function);
+                stream.flush();
+            }
+            case "xml" -> {
+                BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(bytes, StandardCharsets.UTF_8));
+                FunctionsIO.serializeXml(writer, function);
+            }
+            case "json" -> {
+                BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(bytes, StandardCharsets.UTF_8));
+                FunctionsIO.serializeJson(writer, function);
+            }
+            case "mapped" -> FunctionsIO.writeMappedTabulatedFunction(mappedFile, function);
+            default -> throw new IllegalArgumentException("Неизвестный формат: " + format);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public Object read() throws IOException, ClassNotFoundException {
+        switch (format) {
+            case "text" -> {
+                BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(new ByteArrayInputStream(written), StandardCharsets.UTF_8));
+                return FunctionsIO.readTabulatedFunction(reader, factory);
+            }
+            case "binary" -> {
+                return FunctionsIO.readTabulatedFunction(new BufferedInputStream(new ByteArrayInputStream(written)), factory);
+            }
+            case "serialization" -> {
+                return FunctionsIO.deserialize(new BufferedInputStream(new ByteArrayInputStream(written)));
+            }
+            case "xml" -> {
+                BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(new ByteArrayInputStream(written), StandardCharsets.UTF_8));
+                return FunctionsIO.deserializeXml(reader);
+            }
+            case "json" -> {
+                BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(new ByteArrayInputStream(written), StandardCharsets.UTF_8));
+                return FunctionsIO.deserializeJson(reader);
+            }
+            case "mapped" -> {
+                //открытие и полный проход по точкам: без прохода замер свёлся бы к O(1) открытию
+                try (MappedTabulatedFunction mapped = FunctionsIO.mapTabulatedFunction(mappedFile)) {
+                    double[] sum = new double[1];
+                    mapped.forEachPoint((x, y) -> sum[0] += y);
+                    return sum[0];
+                }
+            }
+            default -> throw new IllegalArgumentException("Неизвестный формат: " + format);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package benchmarks;
+
+import functions.Insertable;
+import functions.Removable;
+import functions.TabulatedFunction;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+//insert новой точки и remove её же: размер таблицы остаётся постоянным между вызовами
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InsertRemoveBenchmark {
+
+    @Param({"array", "linkedList", "linkedListIndexed"})
+    public String backend;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private TabulatedFunction function;
+    private double[] xs;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        function = BenchmarkFunctions.create(backend, size);
+        //середины интервалов сетки: каждая вставка добавляет новую точку
+        Random random = new Random(42);
+        double step = 1000.0 / (size - 1);
+        xs = new double[4096];
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = (random.nextInt(size - 1) + 0.5) * step;
+        }
+    }
+
+    @Benchmark
+    public int insertThenRemove() {
+        double x = xs[next];
+        next = (next + 1) & (xs.length - 1);
+        ((Insertable) function).insert(x, 0.0);
+        int index = function.indexOfX(x);
+        ((Removable) function).remove(index);
+        return index;
+    }
+}
@@ -0,0 +1,63 @@
+package benchmarks;
+
+import functions.LinkedListTabulatedFunction;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+//Последовательные проходы по LinkedListTabulatedFunction: с курсором монотонный проход стоит O(1) на вызов
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LinkedListSweepBenchmark {
+
+    @Param({"10000", "50000", "100000"})
+    public int size;
+
+    private LinkedListTabulatedFunction function;
+    private double[] jitterXs;
+
+    @Setup
+    public void setUp() {
+        function = new LinkedListTabulatedFunction(BenchmarkFunctions.SIN, 0.0, size, size);
+        //почти монотонный поток с небольшим дрожанием назад
+        Random random = new Random(size);
+        jitterXs = new double[size - 1];
+        for (int i = 0; i < size - 1; i++) {
+            jitterXs[i] = Math.max(0, i - random.nextInt(3)) + 0.25;
+        }
+    }
+
+    //монотонный проход apply по всей таблице
+    @Benchmark
+    public double applyForward() {
+        double sum = 0;
+        for (int i = 0; i < size - 1; i++) {
+            sum += function.apply(i + 0.5);
+        }
+        return sum;
+    }
+
+    //обратный проход getX/getY по индексам
+    @Benchmark
+    public double indexBackward() {
+        double sum = 0;
+        for (int i = size - 1; i >= 0; i--) {
+            sum += function.getX(i) + function.getY(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double applyJitter() {
+        double sum = 0;
+        for (double x : jitterXs) {
+            sum += function.apply(x);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,45 @@
+package benchmarks;
+
+import functions.TabulatedFunction;
+import operations.TabulatedDifferentialOperator;
+import operations.TabulatedFunctionOperationService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+//Поточечные операции над таблицами и табличная производная
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OperationsBenchmark {
+
+    @Param({"array", "linkedList"})
+    public String backend;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private TabulatedFunction first;
+    private TabulatedFunction second;
+    private final TabulatedFunctionOperationService service = new TabulatedFunctionOperationService();
+    private final TabulatedDifferentialOperator operator = new TabulatedDifferentialOperator();
+
+    @Setup
+    public void setUp() {
+        first = BenchmarkFunctions.create(backend, size);
+        second = BenchmarkFunctions.create(backend, size);
+    }
+
+    @Benchmark
+    public TabulatedFunction add() {
+        return service.add(first, second);
+    }
+
+    @Benchmark
+    public TabulatedFunction derive() {
+        return operator.derive(first);
+    }
+}
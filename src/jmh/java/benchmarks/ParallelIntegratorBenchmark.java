@@ -0,0 +1,55 @@
+package benchmarks;
+
+import functions.MathFunction;
+import operations.ParallelIntegrator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+//Интеграл Симпсона на пулах разного размера (замена TestParralellism2000)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelIntegratorBenchmark {
+    private static final MathFunction FUNCTION = x -> (1.0 + x * x) / (1.0 + x * x * x * x);
+
+    //параметры у каждого бенчмарка свои, чтобы не запускать лишние сочетания
+    @State(Scope.Benchmark)
+    public static class FixedPoolParams {
+        @Param({"1", "2", "4", "8"})
+        public int parallelism;
+
+        @Param({"1000000", "10000000"})
+        public long n;
+    }
+
+    //адаптивному методу n не нужен: точность задаётся допуском
+    @State(Scope.Benchmark)
+    public static class AdaptiveParams {
+        @Param({"1", "2", "4", "8"})
+        public int parallelism;
+    }
+
+    @State(Scope.Benchmark)
+    public static class CommonPoolParams {
+        @Param({"1000000", "10000000"})
+        public long n;
+    }
+
+    @Benchmark
+    public double integrateWithFixedPool(FixedPoolParams params) {
+        return ParallelIntegrator.integrateWithFixedPool(FUNCTION, -500.0, 500.0, params.n, params.parallelism).result();
+    }
+
+    @Benchmark
+    public double integrateAdaptiveWithFixedPool(AdaptiveParams params) {
+        return ParallelIntegrator.integrateAdaptiveWithFixedPool(FUNCTION, -500.0, 500.0, 0.0, 1e-10, params.parallelism).result();
+    }
+
+    @Benchmark
+    public double integrateCommonPool(CommonPoolParams params) {
+        return ParallelIntegrator.integrate(FUNCTION, -500.0, 500.0, params.n);
+    }
+}
@@ -0,0 +1,56 @@
+package benchmarks;
+
+import functions.MathFunction;
+import functions.NewtonMethod;
+import functions.NewtonRootSolver;
+import functions.RungeKuttaFunction;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+//Метод Ньютона и Рунге-Кутта
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SolversBenchmark {
+
+    //x³ - 2x - 5 = 0, корень около 2.0946
+    private final NewtonMethod newton = new NewtonMethod(x -> x * x * x - 2 * x - 5, x -> 3 * x * x - 2);
+
+    //sin(x) = 0 на [0, 1000]: все корни сразу из сетки ячеек
+    private final NewtonRootSolver rootSolver = new NewtonRootSolver(Math::sin, Math::cos, 1e-12, 100);
+
+    //y' = -2x, y(0) = 1, то есть y = 1 - x²
+    private final MathFunction rungeKutta = new RungeKuttaFunction(x -> -2 * x, 0.0, 1.0, 0.001);
+
+    //параметры у каждого бенчмарка свои, чтобы не запускать их декартово произведение
+    @State(Scope.Thread)
+    public static class NewtonParams {
+        @Param({"1.0", "100.0"})
+        public double newtonStart;
+    }
+
+    @State(Scope.Thread)
+    public static class RungeKuttaParams {
+        @Param({"1.0", "10.0"})
+        public double rungeKuttaX;
+    }
+
+    @Benchmark
+    public double newton(NewtonParams params) {
+        return newton.apply(params.newtonStart);
+    }
+
+    @Benchmark
+    public double[] newtonAllRoots() {
+        return rootSolver.solve(0.0, 1000.0, 10_000).distinctRoots();
+    }
+
+    @Benchmark
+    public double rungeKutta(RungeKuttaParams params) {
+        return rungeKutta.apply(params.rungeKuttaX);
+    }
+}
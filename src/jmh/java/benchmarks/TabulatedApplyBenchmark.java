@@ -0,0 +1,55 @@
+package benchmarks;
+
+import functions.TabulatedFunction;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+//apply на обоих табулированных бэкендах при разных размерах таблицы
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TabulatedApplyBenchmark {
+    private static final int QUERIES = 1024;
+
+    @Param({"array", "linkedList", "linkedListIndexed"})
+    public String backend;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private TabulatedFunction function;
+    private double[] xs;
+    private double[] out;
+
+    @Setup
+    public void setUp() {
+        function = BenchmarkFunctions.create(backend, size);
+        Random random = new Random(42);
+        xs = new double[QUERIES];
+        out = new double[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            xs[i] = random.nextDouble() * 1000.0;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void applyRandom(Blackhole blackhole) {
+        for (double x : xs) {
+            blackhole.consume(function.apply(x));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public double[] applyAllRandom() {
+        function.applyAll(xs, out);
+        return out;
+    }
+}
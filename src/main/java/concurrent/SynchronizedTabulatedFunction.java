@@ -58,6 +58,16 @@ public class SynchronizedTabulatedFunction implements TabulatedFunction{
         return function.apply(x);
     }
 
+    @Override
+    public synchronized void applyAll(double[] xs, double[] out) {
+        function.applyAll(xs, out);
+    }
+
+    @Override
+    public synchronized void forEachPoint(PointConsumer consumer) {
+        function.forEachPoint(consumer);
+    }
+
     @Override
     public Iterator<Point> iterator(){
         synchronized (function) {
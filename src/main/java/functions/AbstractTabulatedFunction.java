@@ -47,6 +47,16 @@ public abstract class AbstractTabulatedFunction implements TabulatedFunction {
         }
     }
 
+    //Проверка для пакетного вычисления: отсортированные x можно обойти одним проходом
+    protected static boolean isNonDecreasing(double[] values) {
+        for (int i = 1; i < values.length; i++) {
+            if (!(values[i] >= values[i - 1])) { //NaN тоже считается нарушением порядка
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public String toString(){
         StringBuilder stringBuilder = new StringBuilder();
@@ -55,13 +65,11 @@ public abstract class AbstractTabulatedFunction implements TabulatedFunction {
                 .append(getCount())
                 .append("\n");
 
-        for (Point point : this){
-            stringBuilder.append("[")
-                    .append(point.x)
-                    .append("; ")
-                    .append(point.y)
-                    .append("]\n");
-        }
+        forEachPoint((x, y) -> stringBuilder.append("[")
+                .append(x)
+                .append("; ")
+                .append(y)
+                .append("]\n"));
 
         return stringBuilder.toString();
     }
@@ -6,12 +6,14 @@ import java.io.Serializable;
 import java.util.Iterator;
 import java.util.Arrays;
 import java.util.NoSuchElementException;
+import java.util.RandomAccess;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 
-public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements Insertable, Removable, Serializable {
+public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements Insertable, Removable, Serializable, RandomAccess {
     private static final long serialVersionUID = -2407695699800373971L;
 
     @JsonProperty("xVal")
@@ -25,6 +27,9 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
     @JsonProperty("count")
     private int count;
 
+    //минимальная ёмкость, ниже которой массивы при удалении не сжимаются
+    private static final int MIN_CAPACITY = 16;
+
     @JsonCreator
     public ArrayTabulatedFunction(@JsonProperty(value = "xVal") double[] xVal, @JsonProperty(value = "yVal") double[] yVal) {
         if (xVal.length < 2) {
@@ -62,10 +67,9 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
         //Дискретизация
         double step = (xTo - xFrom)/(count - 1);
         for(int i=0; i<count; i++){
-            double x = xFrom + i*step;
-            xVal[i] = x;
-            yVal[i] = s.apply(x);
+            xVal[i] = xFrom + i*step;
         }
+        s.applyAll(xVal, yVal);
 
     }
 
@@ -149,14 +153,70 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
 
     @Override
     public int indexOfX(double x) {
-        for (int i = 0; i < count; i++) {
-            if (Math.abs(xVal[i] - x) < 1e-10) {
+        //первый индекс, для которого x - xVal[i] < 1e-10: все точки левее гарантированно вне допуска
+        return indexWithinToleranceFrom(firstIndexWithinTolerance(x), x);
+    }
+
+    //проход вправо от start до первой точки в допуске 1e-10 (обычно 1-2 шага)
+    private int indexWithinToleranceFrom(int start, double x) {
+        for (int i = start; i < count; i++) {
+            double diff = xVal[i] - x;
+            if (diff >= 1e-10) {
+                break; //дальше значения только больше
+            }
+            if (Math.abs(diff) < 1e-10) {
                 return i;
             }
         }
         return -1;
     }
 
+    //Бинарный поиск по отсортированному xVal (сортировка гарантирована checkSorted)
+    //возвращает первый индекс i, для которого xVal[i] > x, либо count, если такого нет
+    private int upperBoundOfX(double x) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (xVal[mid] > x) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    //возвращает первый индекс i, для которого xVal[i] >= x, либо count (позиция вставки)
+    private int lowerBoundOfX(double x) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (xVal[mid] < x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    //возвращает первый индекс i, для которого x - xVal[i] < 1e-10, либо count
+    private int firstIndexWithinTolerance(double x) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (x - xVal[mid] < 1e-10) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
     @Override
     public int indexOfY(double y) {
         for (int i = 0; i < count; i++) {
@@ -198,12 +258,9 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
             throw new IllegalArgumentException("Значение x = " + x + " больше правой границы таблицы ");
         }
 
-        for (int i = 0; i < count - 1; i++) {
-            if (x < xVal[i+1]) { // Разбейте на две строки
-                return i;
-            }
-        }
-        return count - 1;
+        //индекс первой точки правее x минус один; если такой нет — последняя точка
+        int upper = upperBoundOfX(x);
+        return upper == 0 ? 0 : upper - 1;
     }
 
     @Override
@@ -222,6 +279,44 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
         }
     }
 
+    //Пакетное вычисление: для отсортированных xs — один проход слиянием по xVal вместо поиска на каждую точку
+    @Override
+    public void applyAll(double[] xs, double[] out) {
+        checkLengthIsTheSame(xs, out);
+        if (!isNonDecreasing(xs)) {
+            for (int i = 0; i < xs.length; i++) {
+                out[i] = apply(xs[i]);
+            }
+            return;
+        }
+
+        double left = leftBound();
+        double right = rightBound();
+        int floorIndex = 0; //наибольший индекс с xVal[floorIndex] <= x
+        int nearIndex = 0;  //первый индекс с x - xVal[nearIndex] < 1e-10
+        for (int i = 0; i < xs.length; i++) {
+            double x = xs[i];
+            if (x < left) {
+                out[i] = extrapolateLeft(x);
+            } else if (x > right) {
+                out[i] = extrapolateRight(x);
+            } else {
+                while (nearIndex < count && !(x - xVal[nearIndex] < 1e-10)) {
+                    nearIndex++;
+                }
+                int exactIndex = indexWithinToleranceFrom(nearIndex, x);
+                if (exactIndex != -1) {
+                    out[i] = yVal[exactIndex];
+                } else {
+                    while (floorIndex + 1 < count && xVal[floorIndex + 1] <= x) {
+                        floorIndex++;
+                    }
+                    out[i] = interpolate(x, xVal[floorIndex], xVal[floorIndex + 1], yVal[floorIndex], yVal[floorIndex + 1]);
+                }
+            }
+        }
+    }
+
     @Override
     public void insert(double x, double y) {
         int existingIndex = indexOfX(x);
@@ -230,16 +325,9 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
             return;
         }
 
-        int insertIndex = 0;
-        while (insertIndex < count && xVal[insertIndex] < x) {
-            insertIndex++;
-        }
+        int insertIndex = lowerBoundOfX(x);
 
-        if (count >= xVal.length) {
-            int newCapacity = (int) (xVal.length) + 1;
-            xVal = Arrays.copyOf(xVal, newCapacity);
-            yVal = Arrays.copyOf(yVal, newCapacity);
-        }
+        ensureCapacity(count + 1);
 
         if (insertIndex < count) {
             System.arraycopy(xVal, insertIndex, xVal, insertIndex + 1, count - insertIndex);
@@ -257,13 +345,152 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
             throw new IndexOutOfBoundsException("Индекс: " + index + ", размер: " + count);
         }
 
-        for (int i = index; i < count - 1; i++) {
-            xVal[i] = xVal[i + 1];
-            yVal[i] = yVal[i + 1];
-        }
+        System.arraycopy(xVal, index + 1, xVal, index, count - index - 1);
+        System.arraycopy(yVal, index + 1, yVal, index, count - index - 1);
 
         //Уменьшаем количество точек
         count--;
+
+        //Сжимаем вдвое, когда занята меньше четверти ёмкости: гистерезис не даёт вставке и удалению
+        //на границе постоянно перевыделять массивы
+        if (xVal.length > MIN_CAPACITY && count < xVal.length / 4) {
+            resize(Math.max(MIN_CAPACITY, xVal.length / 2));
+        }
+    }
+
+    //Вставка пачки точек одним проходом слиянием. Пачка может быть не отсортирована.
+    //Как и у insert, точка в пределах 1e-10 от существующей только обновляет её y;
+    //из нескольких точек пачки с одним x побеждает последняя
+    public void insertAll(double[] xs, double[] ys) {
+        checkLengthIsTheSame(xs, ys);
+        for (double x : xs) {
+            if (Double.isNaN(x)) {
+                throw new IllegalArgumentException("Значение x не может быть NaN");
+            }
+        }
+        if (xs.length == 0) {
+            return;
+        }
+
+        //Стабильная сортировка индексов пачки по x (если пачка уже отсортирована — пропускается)
+        int[] order = new int[xs.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        if (!isNonDecreasing(xs)) {
+            sortIndicesByKey(order, xs);
+        }
+
+        //Склейка совпадающих x внутри пачки: x — от самой ранней точки, y — от самой поздней,
+        //как получилось бы при последовательных вызовах insert
+        double[] batchX = new double[xs.length];
+        double[] batchY = new double[xs.length];
+        int batchCount = 0;
+        for (int k = 0; k < order.length; ) {
+            double groupX = xs[order[k]];
+            int first = order[k];
+            int last = order[k];
+            int next = k + 1;
+            while (next < order.length && xs[order[next]] - groupX < 1e-10) {
+                first = Math.min(first, order[next]);
+                last = Math.max(last, order[next]);
+                next++;
+            }
+            batchX[batchCount] = xs[first];
+            batchY[batchCount] = ys[last];
+            batchCount++;
+            k = next;
+        }
+
+        //Сколько x пачки новые: массивы растут, только если новых точек больше свободного места,
+        //а пачка, лишь обновляющая y существующих точек, память не выделяет
+        int added = batchCount;
+        for (int i = 0, j = 0; i < count && j < batchCount; ) {
+            double diff = batchX[j] - xVal[i];
+            if (Math.abs(diff) < 1e-10) {
+                added--;
+                i++;
+                j++;
+            } else if (diff < 0) {
+                j++;
+            } else {
+                i++;
+            }
+        }
+        ensureCapacity(count + added);
+
+        //Слияние на месте с конца: запись идёт в позицию count + added - 1 и ниже, не обгоняя чтение
+        int i = count - 1;
+        int j = batchCount - 1;
+        int write = count + added - 1;
+        while (j >= 0) {
+            double diff = i >= 0 ? batchX[j] - xVal[i] : 1.0;
+            if (i >= 0 && Math.abs(diff) < 1e-10) {//точка уже есть — обновляем y
+                xVal[write] = xVal[i];
+                yVal[write] = batchY[j];
+                i--;
+                j--;
+            } else if (diff > 0) {
+                xVal[write] = batchX[j];
+                yVal[write] = batchY[j];
+                j--;
+            } else {
+                xVal[write] = xVal[i];
+                yVal[write] = yVal[i];
+                i--;
+            }
+            write--;
+        }
+        count += added;
+    }
+
+    //Текущая ёмкость массивов в точках
+    @JsonIgnore
+    public int getCapacity() {
+        return xVal.length;
+    }
+
+    //Обрезает массивы до текущего количества точек
+    public void trimToSize() {
+        if (xVal.length > count) {
+            resize(count);
+        }
+    }
+
+    //Геометрический рост (в 1.5 раза), чтобы поточечная вставка N точек стоила O(N) копирований в сумме
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > xVal.length) {
+            resize(Math.max(minCapacity, xVal.length + (xVal.length >> 1)));
+        }
+    }
+
+    private void resize(int newCapacity) {
+        xVal = Arrays.copyOf(xVal, newCapacity);
+        yVal = Arrays.copyOf(yVal, newCapacity);
+    }
+
+    //Стабильная сортировка слиянием массива индексов по значениям keys, без упаковки в Integer
+    private static void sortIndicesByKey(int[] order, double[] keys) {
+        int[] buffer = new int[order.length];
+        for (int width = 1; width < order.length; width *= 2) {
+            for (int left = 0; left < order.length - width; left += 2 * width) {
+                int mid = left + width;
+                int right = Math.min(left + 2 * width, order.length);
+                int a = left;
+                int b = mid;
+                int k = left;
+                while (a < mid && b < right) {
+                    buffer[k++] = keys[order[b]] < keys[order[a]] ? order[b++] : order[a++];
+                }
+                while (a < mid) {
+                    buffer[k++] = order[a++];
+                }
+                while (b < right) {
+                    buffer[k++] = order[b++];
+                }
+                System.arraycopy(buffer, left, order, left, right - left);
+            }
+        }
     }
     public double[] getxVal() {
         return Arrays.copyOf(xVal, count);
@@ -272,6 +499,13 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
         return Arrays.copyOf(yVal, count);
     }
 
+    @Override
+    public void forEachPoint(PointConsumer consumer) {
+        for (int i = 0; i < count; i++) {
+            consumer.accept(xVal[i], yVal[i]);
+        }
+    }
+
     @Override
     public Iterator<Point> iterator() {
         return new Iterator<Point>() {
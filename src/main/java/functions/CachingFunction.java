@@ -0,0 +1,283 @@
+package functions;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+//Кэширующая обёртка для дорогих функций (например, RungeKuttaFunction).
+//Точные совпадения x запоминаются в ограниченной таблице double -> double без упаковки,
+//при переполнении вытесняется давно не использованное значение (LRU).
+//Таблица разбита на сегменты со своими блокировками, поэтому LRU — в пределах сегмента;
+//сама функция вычисляется вне блокировки.
+//Дополнительно можно задать сетку на [xFrom, xTo]: внутри неё значение интерполируется
+//по узлам, а узлы вычисляются лениво, при первом обращении к соседнему отрезку
+public class CachingFunction implements MathFunction {
+
+    private static final int MAX_SEGMENTS = 16;
+
+    //битовый шаблон «узел ещё не вычислен»: doubleToLongBits никогда не возвращает такой NaN
+    private static final long NOT_COMPUTED = 0x7ff0_0000_0000_0001L;
+
+    private final MathFunction function;
+    private final Segment[] segments;
+    private final int segmentMask;
+
+    //ленивая сетка; grid == null, если она не задана
+    private final double xFrom, xTo, step;
+    private final AtomicLongArray grid;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CachingFunction(MathFunction function, int capacity) {
+        if (function == null) {
+            throw new IllegalArgumentException("Функция не может быть null");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Размер кэша должен быть положительным");
+        }
+        this.function = function;
+        this.segments = createSegments(capacity);
+        this.segmentMask = segments.length - 1;
+
+        this.xFrom = Double.NaN;
+        this.xTo = Double.NaN;
+        this.step = Double.NaN;
+        this.grid = null;
+    }
+
+    //С ленивой сеткой из gridCount узлов на [xFrom, xTo]; вне отрезка работает точный кэш
+    public CachingFunction(MathFunction function, int capacity, double xFrom, double xTo, int gridCount) {
+        if (function == null) {
+            throw new IllegalArgumentException("Функция не может быть null");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Размер кэша должен быть положительным");
+        }
+        if (!(xFrom < xTo)) {
+            throw new IllegalArgumentException("Левая граница сетки должна быть меньше правой");
+        }
+        if (gridCount < 2) {
+            throw new IllegalArgumentException("Сетка должна содержать как минимум 2 узла");
+        }
+        this.function = function;
+        this.segments = createSegments(capacity);
+        this.segmentMask = segments.length - 1;
+
+        this.xFrom = xFrom;
+        this.xTo = xTo;
+        this.step = (xTo - xFrom) / (gridCount - 1);
+        this.grid = new AtomicLongArray(gridCount);
+        for (int i = 0; i < gridCount; i++) {
+            grid.set(i, NOT_COMPUTED);
+        }
+    }
+
+    //Число сегментов — степень двойки не больше MAX_SEGMENTS, ёмкость делится между ними поровну
+    private static Segment[] createSegments(int capacity) {
+        int segmentCount = Integer.highestOneBit(Math.min(MAX_SEGMENTS, capacity));
+        Segment[] segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(capacity / segmentCount + (i < capacity % segmentCount ? 1 : 0));
+        }
+        return segments;
+    }
+
+    //Число вызовов, на которые ответ взят из кэша без вычисления функции
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    //Число вызовов, для которых пришлось вычислять функцию
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public double apply(double x) {
+        if (grid != null && x >= xFrom && x <= xTo) {
+            return applyOnGrid(x);
+        }
+
+        long key = Double.doubleToLongBits(x);
+        int hash = mix(key);
+        Segment segment = segments[(hash >>> 28) & segmentMask];
+        synchronized (segment) {
+            int entry = segment.find(key, hash);
+            if (entry >= 0) {
+                hits.increment();
+                return segment.values[entry];
+            }
+        }
+
+        misses.increment();
+        double value = function.apply(x);
+        synchronized (segment) {
+            segment.put(key, hash, value);
+        }
+        return value;
+    }
+
+    private double applyOnGrid(double x) {
+        int last = grid.length() - 1;
+        int index = Math.min((int) ((x - xFrom) / step), last - 1);
+        double leftX = node(index);
+        double rightX = index + 1 == last ? xTo : node(index + 1);
+
+        //в самом узле нужен только он
+        boolean needLeft = x != rightX;
+        boolean needRight = x != leftX;
+
+        boolean computed = false;
+        long leftBits = grid.get(index);
+        if (needLeft && leftBits == NOT_COMPUTED) {
+            leftBits = Double.doubleToLongBits(function.apply(leftX));
+            grid.set(index, leftBits);
+            computed = true;
+        }
+        long rightBits = grid.get(index + 1);
+        if (needRight && rightBits == NOT_COMPUTED) {
+            rightBits = Double.doubleToLongBits(function.apply(rightX));
+            grid.set(index + 1, rightBits);
+            computed = true;
+        }
+        count(computed);
+
+        if (!needRight) {
+            return Double.longBitsToDouble(leftBits);
+        }
+        if (!needLeft) {
+            return Double.longBitsToDouble(rightBits);
+        }
+        double leftY = Double.longBitsToDouble(leftBits);
+        double rightY = Double.longBitsToDouble(rightBits);
+        return leftY + (rightY - leftY) * (x - leftX) / (rightX - leftX);
+    }
+
+    private double node(int index) {
+        return xFrom + index * step;
+    }
+
+    private void count(boolean computed) {
+        if (computed) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+    }
+
+    //перемешивание битов ключа (финализатор MurmurHash3), чтобы близкие x попадали в разные корзины
+    private static int mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+
+    //Сегмент кэша: записи в параллельных массивах, цепочки корзин и двусвязный список LRU по индексам.
+    //Все методы вызываются под блокировкой сегмента
+    private static final class Segment {
+        private final long[] keys;
+        private final int[] hashes;
+        private final double[] values;
+        private final int[] chain;          //следующая запись в той же корзине
+        private final int[] newer, older;   //соседи в списке LRU
+        private final int[] buckets;        //первая запись корзины или -1
+        private int size;
+        private int newest = -1, oldest = -1;
+
+        Segment(int capacity) {
+            keys = new long[capacity];
+            hashes = new int[capacity];
+            values = new double[capacity];
+            chain = new int[capacity];
+            newer = new int[capacity];
+            older = new int[capacity];
+            buckets = new int[Integer.highestOneBit(Math.max(1, capacity - 1)) << 1];
+            Arrays.fill(buckets, -1);
+        }
+
+        //индекс записи с ключом key (запись становится самой свежей) или -1
+        int find(long key, int hash) {
+            for (int e = buckets[hash & (buckets.length - 1)]; e >= 0; e = chain[e]) {
+                if (keys[e] == key) {
+                    touch(e);
+                    return e;
+                }
+            }
+            return -1;
+        }
+
+        void put(long key, int hash, double value) {
+            int existing = find(key, hash); //значение могло быть добавлено другим потоком
+            if (existing >= 0) {
+                values[existing] = value;
+                return;
+            }
+
+            int e;
+            if (size < keys.length) {
+                e = size++;
+            } else {
+                e = oldest;
+                unlinkFromBucket(e);
+                unlinkFromList(e);
+            }
+            keys[e] = key;
+            hashes[e] = hash;
+            values[e] = value;
+
+            int bucket = hash & (buckets.length - 1);
+            chain[e] = buckets[bucket];
+            buckets[bucket] = e;
+            linkAsNewest(e);
+        }
+
+        private void touch(int e) {
+            if (e != newest) {
+                unlinkFromList(e);
+                linkAsNewest(e);
+            }
+        }
+
+        private void linkAsNewest(int e) {
+            newer[e] = -1;
+            older[e] = newest;
+            if (newest >= 0) {
+                newer[newest] = e;
+            }
+            newest = e;
+            if (oldest < 0) {
+                oldest = e;
+            }
+        }
+
+        private void unlinkFromList(int e) {
+            if (newer[e] >= 0) {
+                older[newer[e]] = older[e];
+            } else {
+                newest = older[e];
+            }
+            if (older[e] >= 0) {
+                newer[older[e]] = newer[e];
+            } else {
+                oldest = newer[e];
+            }
+        }
+
+        private void unlinkFromBucket(int e) {
+            int bucket = hashes[e] & (buckets.length - 1);
+            if (buckets[bucket] == e) {
+                buckets[bucket] = chain[e];
+                return;
+            }
+            int previous = buckets[bucket];
+            while (chain[previous] != e) {
+                previous = chain[previous];
+            }
+            chain[previous] = chain[e];
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package functions;
+
+import functions.factory.ArrayTabulatedFunctionFactory;
+import functions.factory.TabulatedFunctionFactory;
+
+import java.util.Arrays;
+
+//Решение y' = f(x), y(x0) = y0 методом Рунге–Кутты, как RungeKuttaFunction, но с сохранением состояния:
+//через каждые CHECKPOINT_STEPS шагов запоминается точка (x, y), а последнее вычисленное значение
+//служит курсором. Вычисление продолжается от ближайшей из них, поэтому обход k точек по возрастанию
+//стоит O(общего числа шагов), а не O(k^2). Точки левее x0 считаются шагами назад (своя цепочка точек).
+//Значения побитово совпадают с RungeKuttaFunction с тем же шагом в ту же сторону.
+//Объект изменяет своё состояние, поэтому методы синхронизированы
+public class CheckpointedRungeKuttaFunction implements MathFunction {
+
+    private static final int BATCH_STEPS = 256;//сколько шагов вычисляется одним вызовом applyAll
+    private static final int CHECKPOINT_STEPS = 256;//шагов между сохранёнными точками
+
+    private final MathFunction dEquation;
+    private final double x0;
+    private final double y0;
+    private final double step; //модуль шага
+    private final Direction forward;
+    private final Direction backward;
+
+    public CheckpointedRungeKuttaFunction(MathFunction dEquation, double x0, double y0, double step) {
+        if (dEquation == null) {
+            throw new IllegalArgumentException("Функция не может быть null");
+        }
+        if (step == 0 || Double.isNaN(step)) {
+            throw new IllegalArgumentException("Шаг не может быть нулевым");
+        }
+        this.dEquation = dEquation;
+        this.x0 = x0;
+        this.y0 = y0;
+        this.step = Math.abs(step);
+        this.forward = new Direction(this.step);
+        this.backward = new Direction(-this.step);
+    }
+
+    @Override
+    public synchronized double apply(double x) {
+        return valueAt(x);
+    }
+
+    //Число сохранённых точек в обе стороны (без начальной)
+    public synchronized int getCheckpointCount() {
+        return forward.size + backward.size - 2;
+    }
+
+    //Таблица на count равноотстоящих точках [xFrom, xTo]: точки по каждую сторону от x0
+    //обходятся от x0 наружу, так что всё вычисляется за один проход вперёд
+    public synchronized TabulatedFunction tabulate(double xFrom, double xTo, int count, TabulatedFunctionFactory factory) {
+        if (factory == null) {
+            throw new IllegalArgumentException("Factory cannot be null");
+        }
+        if (count < 2) {
+            throw new IllegalArgumentException("Меньше 2х элементов");
+        }
+        if (xFrom > xTo) {
+            double t = xFrom;
+            xFrom = xTo;
+            xTo = t;
+        }
+
+        double gridStep = (xTo - xFrom) / (count - 1);
+        double[] xValues = new double[count];
+        double[] yValues = new double[count];
+        for (int i = 0; i < count; i++) {
+            xValues[i] = xFrom + i * gridStep;
+        }
+
+        int firstForward = 0;
+        while (firstForward < count && xValues[firstForward] < x0) {
+            firstForward++;
+        }
+        for (int i = firstForward; i < count; i++) {
+            yValues[i] = valueAt(xValues[i]);
+        }
+        for (int i = firstForward - 1; i >= 0; i--) {
+            yValues[i] = valueAt(xValues[i]);
+        }
+        return factory.create(xValues, yValues);
+    }
+
+    public TabulatedFunction tabulate(double xFrom, double xTo, int count) {
+        return tabulate(xFrom, xTo, count, new ArrayTabulatedFunctionFactory());
+    }
+
+    private double valueAt(double x) {
+        if (x == x0) {
+            return y0;
+        }
+        //то же округление числа шагов, что и в RungeKuttaFunction
+        long steps = Math.round(Math.abs(x - x0) / step);
+        return x > x0 ? forward.valueAt(steps) : backward.valueAt(steps);
+    }
+
+    //Цепочка шагов в одну сторону: (xs[k], ys[k]) — состояние после k * CHECKPOINT_STEPS шагов
+    private final class Direction {
+        private final double h;
+        private double[] xs = new double[16];
+        private double[] ys = new double[16];
+        private int size;
+
+        //буферы точек и наклонов одной пачки
+        private double[] points = new double[3 * BATCH_STEPS];
+        private double[] slopes = new double[3 * BATCH_STEPS];
+
+        //последнее вычисленное состояние
+        private long cursorSteps;
+        private double cursorX, cursorY;
+
+        Direction(double h) {
+            this.h = h;
+            xs[0] = x0;
+            ys[0] = y0;
+            size = 1;
+            cursorX = x0;
+            cursorY = y0;
+        }
+
+        double valueAt(long steps) {
+            int checkpoint = (int) Math.min(steps / CHECKPOINT_STEPS, size - 1);
+            long done = (long) checkpoint * CHECKPOINT_STEPS;
+            double currX = xs[checkpoint];
+            double currY = ys[checkpoint];
+            if (cursorSteps > done && cursorSteps <= steps) {
+                done = cursorSteps;
+                currX = cursorX;
+                currY = cursorY;
+            }
+
+            while (done < steps) {
+                //пачка не переходит через следующую контрольную точку
+                long nextCheckpoint = (done / CHECKPOINT_STEPS + 1) * CHECKPOINT_STEPS;
+                int batch = (int) Math.min(Math.min(BATCH_STEPS, steps - done), nextCheckpoint - done);
+                if (3 * batch != points.length) {//неполная пачка
+                    points = new double[3 * batch];
+                    slopes = new double[points.length];
+                }
+                double stepX = currX;
+                for (int k = 0; k < batch; k++) {
+                    points[3 * k] = stepX;
+                    points[3 * k + 1] = stepX + h / 2;
+                    points[3 * k + 2] = stepX + h;
+                    stepX += h;
+                }
+                dEquation.applyAll(points, slopes);
+
+                for (int k = 0; k < batch; k++) {
+                    double k1 = h * slopes[3 * k];
+                    double k2 = h * slopes[3 * k + 1];//правая часть не зависит от y, поэтому k3 = k2
+                    double k4 = h * slopes[3 * k + 2];
+                    currY = currY + (k1 + 2 * k2 + 2 * k2 + k4) / 6;
+                    currX += h;
+                }
+                done += batch;
+
+                if (done == nextCheckpoint && done / CHECKPOINT_STEPS == size) {
+                    append(currX, currY);
+                }
+            }
+
+            cursorSteps = done;
+            cursorX = currX;
+            cursorY = currY;
+            return currY;
+        }
+
+        private void append(double x, double y) {
+            if (size == xs.length) {
+                xs = Arrays.copyOf(xs, size + (size >> 1));
+                ys = Arrays.copyOf(ys, xs.length);
+            }
+            xs[size] = x;
+            ys[size] = y;
+            size++;
+        }
+    }
+}
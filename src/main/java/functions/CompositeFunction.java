@@ -1,5 +1,7 @@
 package functions;
 
+import exception.DifferentLengthOfArraysException;
+
 public class CompositeFunction implements MathFunction{
 
     private final MathFunction firstFunction;
@@ -16,4 +18,23 @@ public class CompositeFunction implements MathFunction{
         return firstFunction.apply(interResult);//f(g(x))
     }
 
+    @Override
+    public void applyAll(double[] xs, double[] out){
+        if (xs.length != out.length) {
+            throw new DifferentLengthOfArraysException("Длины ОШИБКА");
+        }
+        secondFunction.applyAll(xs, out);//g(x) для всего массива
+        firstFunction.applyAll(out, out);//f(g(x)) на месте
+    }
+
+    //f — применяется второй
+    public MathFunction getFirstFunction() {
+        return firstFunction;
+    }
+
+    //g — применяется первой
+    public MathFunction getSecondFunction() {
+        return secondFunction;
+    }
+
 }
@@ -0,0 +1,159 @@
+package functions;
+
+import exception.DifferentLengthOfArraysException;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+//Упрощение композиций: дерево вложенных CompositeFunction (как его строит andThen) разворачивается
+//в массив звеньев в порядке применения, после чего
+// - всё, что применяется до константы, отбрасывается, а звенья после неё вычисляются один раз —
+//   результатом становится ConstantFunction;
+// - IdentityFunction выбрасываются;
+// - цепочки из 2 и 3 звеньев получают свои классы с полями вместо цикла по массиву.
+//Вызов apply глубокой композиции превращается из рекурсии по дереву в проход по массиву.
+//Функции считаются чистыми: свёрнутая константа вычисляется при оптимизации, а не при каждом apply
+public final class CompositionOptimizer {
+
+    private CompositionOptimizer() {
+    }
+
+    public static MathFunction optimize(MathFunction function) {
+        if (function == null) {
+            throw new IllegalArgumentException("Функция не может быть null");
+        }
+        MathFunction[] stages = flatten(function);
+
+        int lastConstant = -1;
+        for (int i = stages.length - 1; i >= 0; i--) {
+            if (stages[i] instanceof ConstantFunction) {
+                lastConstant = i;
+                break;
+            }
+        }
+        if (lastConstant >= 0) {
+            return foldConstant(stages, lastConstant);
+        }
+
+        int size = 0;
+        for (MathFunction stage : stages) {
+            if (!(stage instanceof IdentityFunction)) {
+                stages[size++] = stage;
+            }
+        }
+        return switch (size) {
+            case 0 -> new IdentityFunction();
+            case 1 -> stages[0];
+            case 2 -> new Pipeline2(stages[0], stages[1]);
+            case 3 -> new Pipeline3(stages[0], stages[1], stages[2]);
+            default -> new Pipeline(Arrays.copyOf(stages, size));
+        };
+    }
+
+    //Звенья в порядке применения; обход без рекурсии, чтобы не зависеть от глубины дерева
+    private static MathFunction[] flatten(MathFunction function) {
+        MathFunction[] stages = new MathFunction[16];
+        int size = 0;
+        ArrayDeque<MathFunction> stack = new ArrayDeque<>();
+        stack.push(function);
+        while (!stack.isEmpty()) {
+            MathFunction current = stack.pop();
+            if (current instanceof CompositeFunction composite) {
+                //g(x) применяется раньше f, поэтому снимается со стека первой
+                stack.push(checkStage(composite.getFirstFunction()));
+                stack.push(checkStage(composite.getSecondFunction()));
+            } else if (current instanceof Pipeline pipeline) {
+                for (int i = pipeline.stages.length - 1; i >= 0; i--) {
+                    stack.push(pipeline.stages[i]);
+                }
+            } else {
+                if (size == stages.length) {
+                    stages = Arrays.copyOf(stages, size + (size >> 1));
+                }
+                stages[size++] = current;
+            }
+        }
+        return Arrays.copyOf(stages, size);
+    }
+
+    private static MathFunction checkStage(MathFunction stage) {
+        if (stage == null) {
+            throw new IllegalArgumentException("Звено композиции не может быть null");
+        }
+        return stage;
+    }
+
+    //Константа не зависит от аргумента: значение всей цепочки — звенья после неё, применённые к константе
+    private static MathFunction foldConstant(MathFunction[] stages, int lastConstant) {
+        ConstantFunction constant = (ConstantFunction) stages[lastConstant];
+        double value = constant.getConstant();
+        boolean changed = false;
+        for (int i = lastConstant + 1; i < stages.length; i++) {
+            if (!(stages[i] instanceof IdentityFunction)) {
+                value = stages[i].apply(value);
+                changed = true;
+            }
+        }
+        return changed ? new ConstantFunction(value) : constant;
+    }
+
+    //Цепочка звеньев stages[0], stages[1], ... в порядке применения
+    private static class Pipeline implements MathFunction {
+        final MathFunction[] stages;
+
+        Pipeline(MathFunction... stages) {
+            this.stages = stages;
+        }
+
+        @Override
+        public double apply(double x) {
+            for (MathFunction stage : stages) {
+                x = stage.apply(x);
+            }
+            return x;
+        }
+
+        @Override
+        public void applyAll(double[] xs, double[] out) {
+            if (xs.length != out.length) {
+                throw new DifferentLengthOfArraysException("Длины ОШИБКА");
+            }
+            //каждое звено обрабатывает весь массив своим applyAll, дальше — на месте
+            stages[0].applyAll(xs, out);
+            for (int i = 1; i < stages.length; i++) {
+                stages[i].applyAll(out, out);
+            }
+        }
+    }
+
+    private static final class Pipeline2 extends Pipeline {
+        private final MathFunction first, second;
+
+        Pipeline2(MathFunction first, MathFunction second) {
+            super(first, second);
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public double apply(double x) {
+            return second.apply(first.apply(x));
+        }
+    }
+
+    private static final class Pipeline3 extends Pipeline {
+        private final MathFunction first, second, third;
+
+        Pipeline3(MathFunction first, MathFunction second, MathFunction third) {
+            super(first, second, third);
+            this.first = first;
+            this.second = second;
+            this.third = third;
+        }
+
+        @Override
+        public double apply(double x) {
+            return third.apply(second.apply(first.apply(x)));
+        }
+    }
+}
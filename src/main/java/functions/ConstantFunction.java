@@ -1,5 +1,9 @@
 package functions;
 
+import exception.DifferentLengthOfArraysException;
+
+import java.util.Arrays;
+
 public class ConstantFunction implements MathFunction{
     private final double constant;
 
@@ -12,6 +16,14 @@ public class ConstantFunction implements MathFunction{
         return constant;
     }
 
+    @Override
+    public void applyAll(double[] xs, double[] out) {
+        if (xs.length != out.length) {
+            throw new DifferentLengthOfArraysException("Длины ОШИБКА");
+        }
+        Arrays.fill(out, constant);
+    }
+
     public double getConstant() {
         return constant;
     }
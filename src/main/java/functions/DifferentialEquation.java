@@ -0,0 +1,7 @@
+package functions;
+
+//Правая часть уравнения y' = f(x, y)
+@FunctionalInterface
+public interface DifferentialEquation {
+    double apply(double x, double y);
+}
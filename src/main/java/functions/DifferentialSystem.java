@@ -0,0 +1,9 @@
+package functions;
+
+//Правая часть системы y' = f(x, y) с вектором состояния y.
+//Заполняет dydx[i] = f_i(x, y) для компонент i из [from, to); при параллельном вычислении
+//разные диапазоны заполняются одновременно, поэтому менять y и чужие компоненты dydx нельзя
+@FunctionalInterface
+public interface DifferentialSystem {
+    void apply(double x, double[] y, double[] dydx, int from, int to);
+}
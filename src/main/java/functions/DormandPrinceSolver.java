@@ -0,0 +1,244 @@
+package functions;
+
+import functions.factory.TabulatedFunctionFactory;
+
+import java.util.Arrays;
+
+//Решение задачи Коши y' = f(x, y), y(x0) = y0 вложенной парой Дормана–Принса 5(4)
+//с автоматическим выбором шага: шаг растёт там, где решение гладкое, и уменьшается,
+//где локальная ошибка больше допуска atol + rtol * |y|.
+//Плотный вывод (интерполянт 4-го порядка по уже вычисленным наклонам) даёт значения
+//в любых точках внутри принятого шага без дополнительных вычислений f.
+//Результат сразу записывается в таблицу через фабрику: либо все принятые шаги, либо равномерная сетка
+public class DormandPrinceSolver {
+
+    //узлы и коэффициенты метода (общие с OdeSystemSolver)
+    static final double C2 = 1.0 / 5, C3 = 3.0 / 10, C4 = 4.0 / 5, C5 = 8.0 / 9;
+    static final double A21 = 1.0 / 5;
+    static final double A31 = 3.0 / 40, A32 = 9.0 / 40;
+    static final double A41 = 44.0 / 45, A42 = -56.0 / 15, A43 = 32.0 / 9;
+    static final double A51 = 19372.0 / 6561, A52 = -25360.0 / 2187, A53 = 64448.0 / 6561, A54 = -212.0 / 729;
+    static final double A61 = 9017.0 / 3168, A62 = -355.0 / 33, A63 = 46732.0 / 5247, A64 = 49.0 / 176,
+            A65 = -5103.0 / 18656;
+    //веса решения 5-го порядка (они же седьмая стадия: f в конце шага переходит в следующий шаг)
+    static final double B1 = 35.0 / 384, B3 = 500.0 / 1113, B4 = 125.0 / 192, B5 = -2187.0 / 6784,
+            B6 = 11.0 / 84;
+    //разность весов 5-го и 4-го порядков — оценка локальной ошибки
+    static final double E1 = 71.0 / 57600, E3 = -71.0 / 16695, E4 = 71.0 / 1920, E5 = -17253.0 / 339200,
+            E6 = 22.0 / 525, E7 = -1.0 / 40;
+    //плотный вывод (Хайрер, Нёрсетт, Ваннер)
+    static final double D1 = -12715105075.0 / 11282082432.0, D3 = 87487479700.0 / 32700410799.0,
+            D4 = -10690763975.0 / 1880347072.0, D5 = 701980252875.0 / 199316789632.0,
+            D6 = -1453857185.0 / 822651844.0, D7 = 69997945.0 / 29380423.0;
+
+    static final double SAFETY = 0.9;
+    static final double MIN_FACTOR = 0.2;
+    static final double MAX_FACTOR = 5.0;
+
+    private final DifferentialEquation f;
+    private final double absTolerance;
+    private final double relTolerance;
+    private final int maxSteps;
+
+    public DormandPrinceSolver(DifferentialEquation f, double absTolerance, double relTolerance) {
+        this(f, absTolerance, relTolerance, 1_000_000);
+    }
+
+    public DormandPrinceSolver(DifferentialEquation f, double absTolerance, double relTolerance, int maxSteps) {
+        if (f == null) {
+            throw new IllegalArgumentException("Функция не может быть null");
+        }
+        if (!(absTolerance >= 0) || !(relTolerance >= 0) || (absTolerance == 0 && relTolerance == 0)) {
+            throw new IllegalArgumentException("Допуск должен быть неотрицательным и хотя бы один — положительным");
+        }
+        if (maxSteps <= 0) {
+            throw new IllegalArgumentException("Число шагов должно быть положительным");
+        }
+        this.f = f;
+        this.absTolerance = absTolerance;
+        this.relTolerance = relTolerance;
+        this.maxSteps = maxSteps;
+    }
+
+    //Траектория из принятых шагов от x0 до xEnd (при xEnd < x0 — интегрирование назад)
+    public TabulatedFunction solve(double x0, double y0, double xEnd, TabulatedFunctionFactory factory) {
+        checkArguments(x0, xEnd, factory);
+        Trajectory trajectory = new Trajectory();
+        trajectory.accept(x0, y0);
+        integrate(x0, y0, xEnd, step -> trajectory.accept(step.xNew, step.yNew));
+        return trajectory.create(factory, xEnd < x0);
+    }
+
+    //Значения на count равноотстоящих точках от x0 до xEnd: точки между шагами берутся из плотного вывода
+    public TabulatedFunction solve(double x0, double y0, double xEnd, int count, TabulatedFunctionFactory factory) {
+        checkArguments(x0, xEnd, factory);
+        if (count < 2) {
+            throw new IllegalArgumentException("Меньше 2х элементов");
+        }
+        double[] xValues = new double[count];
+        double[] yValues = new double[count];
+        double gridStep = (xEnd - x0) / (count - 1);
+        for (int i = 0; i < count - 1; i++) {
+            xValues[i] = x0 + i * gridStep;
+        }
+        xValues[count - 1] = xEnd;
+        yValues[0] = y0;
+
+        int[] next = {1};
+        integrate(x0, y0, xEnd, step -> {
+            while (next[0] < count && (xEnd > x0 ? xValues[next[0]] <= step.xNew : xValues[next[0]] >= step.xNew)) {
+                yValues[next[0]] = step.interpolate(xValues[next[0]]);
+                next[0]++;
+            }
+        });
+
+        if (xEnd < x0) {
+            reverse(xValues);
+            reverse(yValues);
+        }
+        return factory.create(xValues, yValues);
+    }
+
+    private static void checkArguments(double x0, double xEnd, TabulatedFunctionFactory factory) {
+        if (factory == null) {
+            throw new IllegalArgumentException("Factory cannot be null");
+        }
+        if (!Double.isFinite(x0) || !Double.isFinite(xEnd) || x0 == xEnd) {
+            throw new IllegalArgumentException("Отрезок интегрирования должен быть конечным и ненулевым");
+        }
+    }
+
+    //Принятый шаг [xOld, xNew] с данными для плотного вывода
+    private static final class Step {
+        double xOld, xNew, h;
+        double yNew;
+        double r1, r2, r3, r4, r5;
+
+        //значение в x из [xOld, xNew]
+        double interpolate(double x) {
+            double theta = (x - xOld) / h;
+            double theta1 = 1 - theta;
+            return r1 + theta * (r2 + theta1 * (r3 + theta * (r4 + theta1 * r5)));
+        }
+    }
+
+    @FunctionalInterface
+    private interface StepConsumer {
+        void accept(Step step);
+    }
+
+    private void integrate(double x, double y, double xEnd, StepConsumer consumer) {
+        double direction = Math.signum(xEnd - x);
+        double k1 = f.apply(x, y);
+        double h = direction * initialStep(x, y, k1, Math.abs(xEnd - x));
+        Step step = new Step();
+
+        for (int steps = 0; ; steps++) {
+            if (steps >= maxSteps) {
+                throw new ArithmeticException("Решение не получено за " + maxSteps + " шагов");
+            }
+            boolean last = direction * (x + h - xEnd) >= 0;
+            if (last) {
+                h = xEnd - x;
+            }
+
+            double k2 = f.apply(x + C2 * h, y + h * A21 * k1);
+            double k3 = f.apply(x + C3 * h, y + h * (A31 * k1 + A32 * k2));
+            double k4 = f.apply(x + C4 * h, y + h * (A41 * k1 + A42 * k2 + A43 * k3));
+            double k5 = f.apply(x + C5 * h, y + h * (A51 * k1 + A52 * k2 + A53 * k3 + A54 * k4));
+            double k6 = f.apply(x + h, y + h * (A61 * k1 + A62 * k2 + A63 * k3 + A64 * k4 + A65 * k5));
+            double yNew = y + h * (B1 * k1 + B3 * k3 + B4 * k4 + B5 * k5 + B6 * k6);
+            double xNew = last ? xEnd : x + h;
+            double k7 = f.apply(xNew, yNew);
+
+            double errorEstimate = h * (E1 * k1 + E3 * k3 + E4 * k4 + E5 * k5 + E6 * k6 + E7 * k7);
+            double scale = absTolerance + relTolerance * Math.max(Math.abs(y), Math.abs(yNew));
+            double error = Math.abs(errorEstimate) / scale;
+            if (Double.isNaN(error)) {
+                throw new ArithmeticException("Решение не определено в x = " + (x + h));
+            }
+
+            if (error <= 1.0) {
+                double yDiff = yNew - y;
+                double bspl = h * k1 - yDiff;
+                step.xOld = x;
+                step.xNew = xNew;
+                step.h = xNew - x;
+                step.yNew = yNew;
+                step.r1 = y;
+                step.r2 = yDiff;
+                step.r3 = bspl;
+                step.r4 = yDiff - h * k7 - bspl;
+                step.r5 = h * (D1 * k1 + D3 * k3 + D4 * k4 + D5 * k5 + D6 * k6 + D7 * k7);
+                consumer.accept(step);
+
+                if (last) {
+                    return;
+                }
+                x = xNew;
+                y = yNew;
+                k1 = k7;
+            }
+
+            double factor = error == 0 ? MAX_FACTOR : SAFETY * Math.pow(error, -0.2);
+            factor = Math.min(MAX_FACTOR, Math.max(MIN_FACTOR, factor));
+            if (error > 1.0) {
+                factor = Math.min(factor, 1.0);
+            }
+            h *= factor;
+            if (Math.abs(h) <= Math.ulp(x) * 16) {
+                throw new ArithmeticException("Шаг стал слишком мал в x = " + x);
+            }
+        }
+    }
+
+    //Начальный шаг по оценке производных в начальной точке (как в dopri5 Хайрера)
+    private double initialStep(double x, double y, double k1, double length) {
+        double scale = absTolerance + relTolerance * Math.abs(y);
+        double d0 = Math.abs(y) / scale;
+        double d1 = Math.abs(k1) / scale;
+        double h0 = (d0 < 1e-5 || d1 < 1e-5) ? 1e-6 : 0.01 * d0 / d1;
+        h0 = Math.min(h0, length);
+
+        double k2 = f.apply(x + h0, y + h0 * k1);
+        double d2 = Math.abs(k2 - k1) / scale / h0;
+        double dMax = Math.max(d1, d2);
+        double h1 = dMax <= 1e-15 ? Math.max(1e-6, h0 * 1e-3) : Math.pow(0.01 / dMax, 0.2);
+        return Math.min(Math.min(100 * h0, h1), length);
+    }
+
+    private static void reverse(double[] values) {
+        for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+            double t = values[i];
+            values[i] = values[j];
+            values[j] = t;
+        }
+    }
+
+    //Растущие массивы точек траектории
+    private static final class Trajectory {
+        private double[] xs = new double[64];
+        private double[] ys = new double[64];
+        private int size;
+
+        void accept(double x, double y) {
+            if (size == xs.length) {
+                xs = Arrays.copyOf(xs, size + (size >> 1));
+                ys = Arrays.copyOf(ys, xs.length);
+            }
+            xs[size] = x;
+            ys[size] = y;
+            size++;
+        }
+
+        TabulatedFunction create(TabulatedFunctionFactory factory, boolean backward) {
+            double[] xValues = Arrays.copyOf(xs, size);
+            double[] yValues = Arrays.copyOf(ys, size);
+            if (backward) {
+                reverse(xValues);
+                reverse(yValues);
+            }
+            return factory.create(xValues, yValues);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package functions;
 
+import exception.DifferentLengthOfArraysException;
+
 public class IdentityFunction implements MathFunction {
 
     @Override
@@ -7,4 +9,14 @@ public class IdentityFunction implements MathFunction {
         return x;
     }
 
+    @Override
+    public void applyAll(double[] xs, double[] out){
+        if (xs.length != out.length) {
+            throw new DifferentLengthOfArraysException("Длины ОШИБКА");
+        }
+        if (xs != out) {
+            System.arraycopy(xs, 0, out, 0, xs.length);
+        }
+    }
+
 }
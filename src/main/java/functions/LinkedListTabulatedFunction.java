@@ -4,10 +4,21 @@ import exception.InterpolationException;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 
 public class LinkedListTabulatedFunction extends AbstractTabulatedFunction implements Insertable, Removable, Serializable {
 
+    @Override
+    public void forEachPoint(PointConsumer consumer) {
+        Node currNode = head;
+        for (int i = 0; i < count; i++) {
+            consumer.accept(currNode.x, currNode.y);
+            currNode = currNode.next;
+        }
+    }
+
     @Override
     public Iterator<Point> iterator() {
         return new Iterator<Point>() {
@@ -54,8 +65,31 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
     private Node head;
     private int count;
 
+    //Узел вместе с его индексом в списке
+    record Position(Node node, int index) {
+    }
+
+    //Курсор последнего обращения: монотонные и почти монотонные запросы (интегрирование, построение графиков)
+    //идут от него, а не от head. Узел и индекс публикуются одним неизменяемым объектом и читаются
+    //один раз в локальную переменную, поэтому параллельные чтения не видят узел одного потока
+    //с индексом другого (в худшем случае идут от чужого, но согласованного курсора)
+    private transient Position cursor;
+
+    //Необязательный skip-list индекс над узлами: O(log n) поиск по индексу и по x.
+    //Не сериализуется, а перестраивается после чтения объекта
+    private boolean indexed;
+    private transient NodeSkipList skipList;
+
+    //на сколько узлов от курсора/концов ещё выгоднее идти по списку, а не через индекс
+    private static final int INDEX_WALK_THRESHOLD = 16;
+
     //конструктор с массивами значений
     public LinkedListTabulatedFunction(double[] xVal, double[] yVal){
+        this(xVal, yVal, false);
+    }
+
+    //конструктор с массивами значений и, при indexed = true, skip-list индексом над узлами
+    public LinkedListTabulatedFunction(double[] xVal, double[] yVal, boolean indexed){
         if (xVal.length < 2) {
             throw new IllegalArgumentException("Длина таблицы должна быть не менее 2 точек");
         }
@@ -68,10 +102,31 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
         for(int i = 0; i < xVal.length;i++){
             addNode(xVal[i], yVal[i]);
         }
+
+        this.indexed = indexed;
+        if (indexed) {
+            skipList = new NodeSkipList(head, count);
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (indexed) {
+            skipList = new NodeSkipList(head, count);
+        }
+    }
+
+    public boolean isIndexed() {
+        return indexed;
     }
 
     //конструктор с дискретизацией функции
     public LinkedListTabulatedFunction(MathFunction s, double xFrom, double xTo, int count){
+        this(s, xFrom, xTo, count, false);
+    }
+
+    //конструктор с дискретизацией функции и, при indexed = true, skip-list индексом над узлами
+    public LinkedListTabulatedFunction(MathFunction s, double xFrom, double xTo, int count, boolean indexed){
         if (count < 2) {
             throw new IllegalArgumentException("Количество точек должно быть не менее 2");
         }
@@ -92,12 +147,21 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
             }
         }else{
             double step = (xTo - xFrom) / (count - 1);
+            double[] xVal = new double[count];
+            double[] yVal = new double[count];
+            for(int i = 0; i < count; i++){
+                xVal[i] = xFrom + i * step;
+            }
+            s.applyAll(xVal, yVal);
             for(int i = 0; i < count; i++){
-                double x = xFrom + i * step;
-                double y = s.apply(x);
-                addNode(x, y);
+                addNode(xVal[i], yVal[i]);
             }
         }
+
+        this.indexed = indexed;
+        if (indexed) {
+            skipList = new NodeSkipList(head, this.count);
+        }
     }
 
     private void addNode(double x, double y){
@@ -125,19 +189,71 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
             throw new IndexOutOfBoundsException("Индекс: " + index + ", Размер: " + count);
         }
 
-        if(index < count / 2){
-            Node curr = head;
-            for(int i = 0; i < index; i++){
-                curr = curr.next;
-            }
-            return curr;
-        } else{
-            Node curr = head.prev;
-            for (int i = count - 1; i > index; i--){
-                curr = curr.prev;
-            }
-            return curr;
+        //стартуем с ближайшей известной позиции: head, хвост или курсор
+        Node curr = head;
+        int currIndex = 0;
+        if (count - 1 - index < index) {
+            curr = head.prev;
+            currIndex = count - 1;
+        }
+        Position last = cursor;
+        if (last != null && Math.abs(last.index() - index) < Math.abs(currIndex - index)) {
+            curr = last.node();
+            currIndex = last.index();
+        }
+        if (skipList != null && Math.abs(currIndex - index) > INDEX_WALK_THRESHOLD) {
+            curr = skipList.nodeAt(head, index);
+            currIndex = index;
+        }
+
+        while (currIndex < index) {
+            curr = curr.next;
+            currIndex++;
+        }
+        while (currIndex > index) {
+            curr = curr.prev;
+            currIndex--;
+        }
+
+        cursor = new Position(curr, index);
+        return curr;
+    }
+
+    //Двунаправленный проход от курсора к узлу с наибольшим x <= заданного (или к последнему узлу).
+    //Найденная позиция становится новым курсором
+    private Position walkToFloorNode(double x) {
+        Position last = cursor;
+        if (skipList != null && !isCursorNear(last, x)) {
+            Position found = skipList.floorNode(head, x);
+            cursor = found;
+            return found;
+        }
+
+        Node curr = head;
+        int index = 0;
+        if (last != null) {
+            curr = last.node();
+            index = last.index();
+        }
+
+        while (index > 0 && curr.x > x) {
+            curr = curr.prev;
+            index--;
+        }
+        while (index < count - 1 && !(x < curr.next.x)) {
+            curr = curr.next;
+            index++;
         }
+
+        Position found = new Position(curr, index);
+        cursor = found;
+        return found;
+    }
+
+    //Искомый узел — курсор или следующий за ним: дойти по списку дешевле, чем спускаться по индексу
+    private boolean isCursorNear(Position last, double x) {
+        return last != null && last.node().x <= x
+                && (last.index() >= count - 2 || x < last.node().next.next.x);
     }
 
     @Override
@@ -152,14 +268,7 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
             throw new IllegalArgumentException("x = " + x + " больше левой границы " + count);
         }
 
-        Node curr = head;
-        for(int i = 0; i < count - 1; i++){
-            if(x < curr.next.x){
-                return i;
-            }
-            curr = curr.next;
-        }
-        return count - 1;
+        return walkToFloorNode(x).index();
     }
 
     @Override
@@ -231,6 +340,23 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
             throw new IllegalStateException("Список пуст, ы");
         }
 
+        if (skipList != null) {
+            //узлы левее найденного гарантированно вне допуска, дальше — несколько шагов вправо
+            Position first = skipList.firstNodeWithinTolerance(head, x);
+            Node curr = first.node();
+            for (int i = first.index(); i < count; i++) {
+                double diff = curr.x - x;
+                if (diff >= 1e-10) {
+                    break;
+                }
+                if (Math.abs(diff) < 1e-10) {
+                    return i;
+                }
+                curr = curr.next;
+            }
+            return -1;
+        }
+
         Node curr = head;
         for(int i = 0; i < count; i++){
             if(Math.abs(curr.x - x) < 1e-10){
@@ -285,15 +411,7 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
             throw new IllegalArgumentException("x = " + x + " больше левой границы " + head.prev);
         }
 
-        Node curr = head;
-        for(int i = 0; i < count - 1; i++){
-            if(x < curr.next.x){
-                return curr;
-            }
-            curr = curr.next;
-        }
-
-        return head.prev;
+        return walkToFloorNode(x).node();
     }
 
     @Override
@@ -313,15 +431,62 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
         }
     }
 
+    //Пакетное вычисление: для отсортированных xs узлы обходятся одним проходом, без поиска от head
+    @Override
+    public void applyAll(double[] xs, double[] out) {
+        checkLengthIsTheSame(xs, out);
+        if (!isNonDecreasing(xs)) {
+            for (int i = 0; i < xs.length; i++) {
+                out[i] = apply(xs[i]);
+            }
+            return;
+        }
+
+        double left = leftBound();
+        double right = rightBound();
+        Node floorNode = head;
+        int floorIndex = 0;
+        for (int i = 0; i < xs.length; i++) {
+            double x = xs[i];
+            if (x < left) {
+                out[i] = extrapolateLeft(x);
+            } else if (x > right) {
+                out[i] = extrapolateRight(x);
+            } else {
+                while (floorIndex < count - 1 && !(x < floorNode.next.x)) {
+                    floorNode = floorNode.next;
+                    floorIndex++;
+                }
+                if (Math.abs(floorNode.x - x) < 1e-10) {
+                    out[i] = floorNode.y;
+                } else {
+                    out[i] = interpolate(x, floorNode.x, floorNode.next.x, floorNode.y, floorNode.next.y);
+                }
+            }
+        }
+    }
+
     @Override
     public void insert(double x, double y) {
+        cursor = null;//индексы после точки вставки сдвигаются
         if (head == null) {
             addNode(x, y);
+            if (skipList != null) {
+                skipList.inserted(head, 0);
+            }
             return;
         }
 
+        //без индекса просматриваем список от head, с индексом — сразу от первого узла в допуске
         Node curr = head;
-        do {
+        int position = 0;
+        if (skipList != null) {
+            Position first = skipList.firstNodeWithinTolerance(head, x);
+            curr = first.node();
+            position = first.index();
+        }
+
+        for (; position < count; position++) {
             if (Math.abs(curr.x - x) < 1e-10) {
                 curr.y = y;
                 return;
@@ -341,11 +506,14 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
                 }
 
                 count++;
+                if (skipList != null) {
+                    skipList.inserted(newNode, position);
+                }
                 return;
             }
 
             curr = curr.next;
-        } while (curr != head);
+        }
 
         Node last = head.prev;
         Node newNode = new Node(x, y);
@@ -357,6 +525,9 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
         head.prev = newNode;
 
         count++;
+        if (skipList != null) {
+            skipList.inserted(newNode, count - 1);
+        }
     }
 
 
@@ -371,6 +542,10 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
         }
 
         Node nodeToRemove = getNode(index);
+        cursor = null;//узел курсора может быть удалён, а индексы сдвигаются
+        if (skipList != null) {
+            skipList.removed(nodeToRemove, index);
+        }
 
         if (count == 1) {
             head = null;
@@ -0,0 +1,244 @@
+package functions;
+
+import exception.InterpolationException;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+//Табулированная функция только для чтения поверх готовых столбцов x и y в памяти вне кучи
+//(обычно — отображённого в память файла, см. FunctionsIO.mapTabulatedFunction).
+//Столбцы — подряд идущие double в порядке little-endian, x строго возрастают.
+//Ничего не копируется в кучу: getX/getY/apply читают прямо из сегментов.
+//Сегменты принадлежат arena; close() закрывает её и освобождает отображение
+public class MappedTabulatedFunction extends AbstractTabulatedFunction implements AutoCloseable, RandomAccess {
+
+    public static final ValueLayout.OfDouble COLUMN_LAYOUT =
+            ValueLayout.JAVA_DOUBLE_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private static final long DOUBLE_BYTES = COLUMN_LAYOUT.byteSize();
+
+    private final Arena arena;
+    private final MemorySegment xColumn;
+    private final MemorySegment yColumn;
+    private boolean closed;
+
+    public MappedTabulatedFunction(Arena arena, MemorySegment xColumn, MemorySegment yColumn) {
+        if (xColumn.byteSize() != yColumn.byteSize() || xColumn.byteSize() % DOUBLE_BYTES != 0) {
+            throw new IllegalArgumentException("Длины ОШИБКА");
+        }
+        long points = xColumn.byteSize() / DOUBLE_BYTES;
+        if (points < 2) {
+            throw new IllegalArgumentException("Таблица должна содержать как минимум 2 точки");
+        }
+        if (points > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Слишком много точек: " + points);
+        }
+        this.arena = arena;
+        this.xColumn = xColumn;
+        this.yColumn = yColumn;
+        this.count = (int) points;
+    }
+
+    //Освобождает отображение. Повторный вызов ничего не делает
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            arena.close();
+        }
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    private double x(int index) {
+        return xColumn.get(COLUMN_LAYOUT, index * DOUBLE_BYTES);
+    }
+
+    private double y(int index) {
+        return yColumn.get(COLUMN_LAYOUT, index * DOUBLE_BYTES);
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Отображение функции уже закрыто");
+        }
+    }
+
+    @Override
+    protected double extrapolateLeft(double x) {
+        return interpolate(x, x(0), x(1), y(0), y(1));
+    }
+
+    @Override
+    protected double extrapolateRight(double x) {
+        return interpolate(x, x(count - 2), x(count - 1), y(count - 2), y(count - 1));
+    }
+
+    @Override
+    protected double interpolate(double x, int floorIndex) {
+        if (floorIndex < 0 || floorIndex >= count - 1) {
+            throw new IndexOutOfBoundsException("Аут оф индекс: " + floorIndex);
+        }
+
+        double x1 = x(floorIndex);
+        double x2 = x(floorIndex + 1);
+        if (x < x1 || x > x2) {
+            throw new InterpolationException(
+                    "Значение x = " + x + " не находится в интервале [" + x1 + ", " + x2 + "]");
+        }
+        return interpolate(x, x1, x2, y(floorIndex), y(floorIndex + 1));
+    }
+
+    @Override
+    protected int floorIndexOfX(double x) {
+        if (x < leftBound()) {
+            throw new IllegalArgumentException("Значение x = " + x + " меньше левой границы таблицы ");
+        }
+        if (x > rightBound()) {
+            throw new IllegalArgumentException("Значение x = " + x + " больше правой границы таблицы ");
+        }
+
+        //первый индекс с x[i] > x минус один
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (x(mid) > x) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low == 0 ? 0 : low - 1;
+    }
+
+    @Override
+    public double apply(double x) {
+        if (x < leftBound()) {
+            return extrapolateLeft(x);
+        } else if (x > rightBound()) {
+            return extrapolateRight(x);
+        } else {
+            int index = indexOfX(x);
+            if (index != -1) {
+                return y(index);
+            }
+            return interpolate(x, floorIndexOfX(x));
+        }
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public double getX(int index) {
+        checkOpen();
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+        }
+        return x(index);
+    }
+
+    @Override
+    public double getY(int index) {
+        checkOpen();
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+        }
+        return y(index);
+    }
+
+    @Override
+    public void setY(int index, double value) {
+        throw new UnsupportedOperationException("Отображённая функция доступна только для чтения");
+    }
+
+    @Override
+    public int indexOfX(double x) {
+        checkOpen();
+        //первый индекс, для которого x - x[i] < 1e-10, затем проход вправо в пределах допуска
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (x - x(mid) < 1e-10) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        for (int i = low; i < count; i++) {
+            double diff = x(i) - x;
+            if (diff >= 1e-10) {
+                break;
+            }
+            if (Math.abs(diff) < 1e-10) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int indexOfY(double y) {
+        checkOpen();
+        for (int i = 0; i < count; i++) {
+            if (Math.abs(y(i) - y) < 1e-10) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public double leftBound() {
+        checkOpen();
+        return x(0);
+    }
+
+    @Override
+    public double rightBound() {
+        checkOpen();
+        return x(count - 1);
+    }
+
+    @Override
+    public void forEachPoint(PointConsumer consumer) {
+        checkOpen();
+        for (int i = 0; i < count; i++) {
+            consumer.accept(x(i), y(i));
+        }
+    }
+
+    @Override
+    public Iterator<Point> iterator() {
+        checkOpen();
+        return new Iterator<Point>() {
+            private int i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < count;
+            }
+
+            @Override
+            public Point next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("Элементов больше нет, ы");
+                }
+                Point point = new Point(getX(i), getY(i));
+                i++;
+                return point;
+            }
+        };
+    }
+}
@@ -1,9 +1,21 @@
 package functions;
 
+import exception.DifferentLengthOfArraysException;
+
 public interface MathFunction {
 
     double apply(double x);
 
+    //Пакетное вычисление: out[i] = apply(xs[i]); допускается xs == out (вычисление на месте)
+    default void applyAll(double[] xs, double[] out) {
+        if (xs.length != out.length) {
+            throw new DifferentLengthOfArraysException("Длины ОШИБКА");
+        }
+        for (int i = 0; i < xs.length; i++) {
+            out[i] = apply(xs[i]);
+        }
+    }
+
 
     default CompositeFunction andThen(MathFunction afterFunction) {
         return new CompositeFunction(this, afterFunction);
@@ -0,0 +1,255 @@
+package functions;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+//Поиск корней f(x) = 0 методом Ньютона сразу из многих начальных точек.
+//Итерации для разных точек идут параллельно в пуле ForkJoin; вместо исключений
+//для каждой точки записывается код статуса, а результат хранится в примитивных массивах.
+//На отрезке с сеткой: в ячейках со сменой знака работает Ньютон с защитой бисекцией
+//(итерация не выходит из ячейки), в остальных — обычный Ньютон из середины ячейки
+public class NewtonRootSolver {
+
+    //коды статуса для каждой начальной точки
+    public static final int CONVERGED = 0;
+    public static final int ZERO_DERIVATIVE = 1;
+    public static final int NOT_CONVERGED = 2;
+    public static final int DIVERGED = 3;
+    public static final int OUT_OF_INTERVAL = 4;
+
+    //начальных точек в одной задаче пула
+    private static final int LEAF_SIZE = 64;
+
+    //roots[i] — корень из i-й начальной точки (NaN, если status[i] != CONVERGED),
+    //distinctRoots — сошедшиеся корни без повторов по возрастанию
+    public record Result(double[] roots, int[] status, double[] distinctRoots) {
+        public int count(int statusCode) {
+            int count = 0;
+            for (int s : status) {
+                if (s == statusCode) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+
+    private final MathFunction f;
+    private final MathFunction df;
+    private final double e;
+    private final int maxIterations;
+    private final ForkJoinPool pool;
+
+    public NewtonRootSolver(MathFunction f, MathFunction df) {
+        this(f, df, 1.23e-6, 1000);
+    }
+
+    public NewtonRootSolver(MathFunction f, MathFunction df, double e, int maxIterations) {
+        this(f, df, e, maxIterations, ForkJoinPool.commonPool());
+    }
+
+    public NewtonRootSolver(MathFunction f, MathFunction df, double e, int maxIterations, ForkJoinPool pool) {
+        if (f == null || df == null || pool == null) {
+            throw new IllegalArgumentException("Функции и пул не могут быть null");
+        }
+        if (!(e > 0) || maxIterations <= 0) {
+            throw new IllegalArgumentException("Точность и число итераций должны быть положительными");
+        }
+        this.f = f;
+        this.df = df;
+        this.e = e;
+        this.maxIterations = maxIterations;
+        this.pool = pool;
+    }
+
+    //Ньютон из каждой точки starts
+    public Result solve(double[] starts) {
+        if (starts == null) {
+            throw new IllegalArgumentException("Массив начальных точек не может быть null");
+        }
+        double[] roots = new double[starts.length];
+        int[] status = new int[starts.length];
+        pool.invoke(new StartsTask(starts, null, roots, status, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, 0, starts.length));
+        return new Result(roots, status, distinct(roots, status));
+    }
+
+    //Все корни на [a, b]: отрезок делится на cells ячеек, значения f в узлах считаются одним applyAll
+    public Result solve(double a, double b, int cells) {
+        if (!(a < b)) {
+            throw new IllegalArgumentException("Левая граница должна быть меньше правой");
+        }
+        if (cells <= 0) {
+            throw new IllegalArgumentException("Число ячеек должно быть положительным");
+        }
+        double[] nodes = new double[cells + 1];
+        double width = (b - a) / cells;
+        for (int i = 0; i < cells; i++) {
+            nodes[i] = a + i * width;
+        }
+        nodes[cells] = b;
+        double[] values = new double[nodes.length];
+        f.applyAll(nodes, values);
+
+        double[] roots = new double[cells];
+        int[] status = new int[cells];
+        pool.invoke(new StartsTask(nodes, values, roots, status, a, b, 0, cells));
+        return new Result(roots, status, distinct(roots, status));
+    }
+
+    //Без values: starts — начальные точки; с values: starts — узлы сетки, values — f в узлах,
+    //задача i отвечает за ячейку [starts[i], starts[i + 1]]
+    private final class StartsTask extends RecursiveAction {
+        private final double[] starts, values, roots;
+        private final int[] status;
+        private final double low, high;
+        private final int from, to;
+
+        StartsTask(double[] starts, double[] values, double[] roots, int[] status,
+                   double low, double high, int from, int to) {
+            this.starts = starts;
+            this.values = values;
+            this.roots = roots;
+            this.status = status;
+            this.low = low;
+            this.high = high;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_SIZE) {
+                for (int i = from; i < to; i++) {
+                    solveOne(i);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            StartsTask left = new StartsTask(starts, values, roots, status, low, high, from, mid);
+            StartsTask right = new StartsTask(starts, values, roots, status, low, high, mid, to);
+            left.fork();
+            right.compute();
+            left.join();
+        }
+
+        private void solveOne(int i) {
+            int code;
+            if (values == null) {
+                code = newton(starts[i], roots, i);
+            } else {
+                double xl = starts[i], xh = starts[i + 1];
+                double fl = values[i], fh = values[i + 1];
+                if (fl == 0) {
+                    roots[i] = xl;
+                    code = CONVERGED;
+                } else if (fh == 0) {
+                    roots[i] = xh;
+                    code = CONVERGED;
+                } else if ((fl < 0) != (fh < 0)) {
+                    code = safeguarded(xl, xh, fl, roots, i);
+                } else {
+                    code = newton(xl + (xh - xl) / 2, roots, i);
+                }
+            }
+            if (code == CONVERGED && !(roots[i] >= low && roots[i] <= high)) {
+                code = OUT_OF_INTERVAL;
+            }
+            if (code != CONVERGED) {
+                roots[i] = Double.NaN;
+            }
+            status[i] = code;
+        }
+    }
+
+    //Те же итерации, что в NewtonMethod.apply, но с кодом статуса вместо исключений
+    private int newton(double x0, double[] roots, int index) {
+        double x = x0;
+        for (int i = 0; i < maxIterations; i++) {
+            double fx = f.apply(x);
+            if (fx == 0) {
+                roots[index] = x;
+                return CONVERGED;
+            }
+            double dfx = df.apply(x);
+            if (Math.abs(dfx) < e) {
+                return ZERO_DERIVATIVE;
+            }
+
+            double xNew = x - fx / dfx;
+            if (!Double.isFinite(xNew)) {
+                return DIVERGED;
+            }
+            if (Math.abs(xNew - x) < e) {
+                roots[index] = xNew;
+                return CONVERGED;
+            }
+            x = xNew;
+        }
+        return NOT_CONVERGED;
+    }
+
+    //Ньютон с защитой бисекцией на [xl, xh], где f меняет знак: если шаг Ньютона выходит
+    //из текущего отрезка или сокращает его медленнее бисекции, делается шаг бисекции
+    private int safeguarded(double xl, double xh, double fl, double[] roots, int index) {
+        if (fl > 0) { //пусть f(xl) < 0 < f(xh)
+            double t = xl;
+            xl = xh;
+            xh = t;
+        }
+        double x = xl + (xh - xl) / 2;
+        double dxOld = Math.abs(xh - xl);
+        double dx = dxOld;
+        double fx = f.apply(x);
+        double dfx = df.apply(x);
+
+        for (int i = 0; i < maxIterations; i++) {
+            if (fx == 0) {
+                roots[index] = x;
+                return CONVERGED;
+            }
+            if (((x - xh) * dfx - fx) * ((x - xl) * dfx - fx) > 0 || Math.abs(2 * fx) > Math.abs(dxOld * dfx)) {
+                dxOld = dx;
+                dx = (xh - xl) / 2;
+                x = xl + dx;
+            } else {
+                dxOld = dx;
+                dx = fx / dfx;
+                x -= dx;
+            }
+            if (Math.abs(dx) < e) {
+                roots[index] = x;
+                return CONVERGED;
+            }
+            fx = f.apply(x);
+            dfx = df.apply(x);
+            if (fx < 0) {
+                xl = x;
+            } else {
+                xh = x;
+            }
+        }
+        return NOT_CONVERGED;
+    }
+
+    //Сошедшиеся корни по возрастанию; корни ближе точности e (относительно для больших |x|) считаются одним
+    private double[] distinct(double[] roots, int[] status) {
+        double[] converged = new double[roots.length];
+        int size = 0;
+        for (int i = 0; i < roots.length; i++) {
+            if (status[i] == CONVERGED) {
+                converged[size++] = roots[i];
+            }
+        }
+        Arrays.sort(converged, 0, size);
+
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            double root = converged[i];
+            if (kept == 0 || root - converged[kept - 1] > 2 * e * Math.max(1.0, Math.abs(root))) {
+                converged[kept++] = root;
+            }
+        }
+        return Arrays.copyOf(converged, kept);
+    }
+}
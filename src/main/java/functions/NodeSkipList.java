@@ -0,0 +1,224 @@
+package functions;
+
+import functions.LinkedListTabulatedFunction.Node;
+import functions.LinkedListTabulatedFunction.Position;
+
+//Индексируемый skip-list поверх узлов LinkedListTabulatedFunction.
+//Нижний уровень — сам двусвязный список узлов, верхние уровни — "башни" с шириной прыжка,
+//что даёт O(log n) поиск и по индексу, и по x. Сам список узлов остаётся прежним:
+//вставка и удаление узла — те же O(1) перестановки ссылок плюс O(log n) правка башен.
+//Поиски не меняют состояние индекса (найденный индекс возвращается вместе с узлом),
+//поэтому их можно вызывать из нескольких потоков одновременно, пока нет вставок и удалений
+final class NodeSkipList {
+
+    private static final int MAX_LEVEL = 32;
+
+    //Элемент верхнего уровня: ссылается на узел списка, следующий элемент того же уровня
+    //и на элемент уровнем ниже. width — сколько узлов списка перепрыгивает ссылка next
+    //(для последнего элемента уровня — расстояние до позиции count)
+    private static final class Tower {
+        final Node node;
+        Tower next;
+        Tower down;
+        int width;
+
+        Tower(Node node, Tower down) {
+            this.node = node;
+            this.down = down;
+        }
+    }
+
+    //header[l] — заголовок уровня l + 1, стоит на виртуальной позиции -1
+    private final Tower[] header = new Tower[MAX_LEVEL];
+    private int levels;
+    private int count;
+    private long seed = 0x9E3779B97F4A7C15L;
+
+    NodeSkipList(Node head, int count) {
+        Tower down = null;
+        for (int l = 0; l < MAX_LEVEL; l++) {
+            header[l] = new Tower(null, down);
+            down = header[l];
+        }
+        rebuild(head, count);
+    }
+
+    //Построение индекса по готовому списку за O(n)
+    void rebuild(Node head, int count) {
+        this.count = count;
+        this.levels = 0;
+        Tower[] last = new Tower[MAX_LEVEL];
+        int[] lastPos = new int[MAX_LEVEL];
+        for (int l = 0; l < MAX_LEVEL; l++) {
+            header[l].next = null;
+            last[l] = header[l];
+            lastPos[l] = -1;
+        }
+
+        Node curr = head;
+        for (int pos = 0; pos < count; pos++) {
+            int height = randomHeight();
+            Tower down = null;
+            for (int l = 0; l < height; l++) {
+                Tower tower = new Tower(curr, down);
+                last[l].next = tower;
+                last[l].width = pos - lastPos[l];
+                last[l] = tower;
+                lastPos[l] = pos;
+                down = tower;
+            }
+            levels = Math.max(levels, height);
+            curr = curr.next;
+        }
+
+        for (int l = 0; l < MAX_LEVEL; l++) {
+            last[l].width = count - lastPos[l];
+        }
+    }
+
+    //Узел по индексу: спуск по башням, затем несколько шагов по списку
+    Node nodeAt(Node head, int index) {
+        Tower curr = header[Math.max(levels, 1) - 1];
+        int pos = -1;
+        while (true) {
+            while (curr.next != null && pos + curr.width <= index) {
+                pos += curr.width;
+                curr = curr.next;
+            }
+            if (curr.down == null) {
+                break;
+            }
+            curr = curr.down;
+        }
+
+        Node node = curr.node == null ? head : curr.node;
+        if (pos < 0) {
+            pos = 0;
+        }
+        while (pos < index) {
+            node = node.next;
+            pos++;
+        }
+        return node;
+    }
+
+    //Узел с наибольшим x <= заданного (если таких нет — первый узел), как у floorNodeOfX
+    Position floorNode(Node head, double x) {
+        Tower curr = header[Math.max(levels, 1) - 1];
+        int pos = -1;
+        while (true) {
+            while (curr.next != null && curr.next.node.x <= x) {
+                pos += curr.width;
+                curr = curr.next;
+            }
+            if (curr.down == null) {
+                break;
+            }
+            curr = curr.down;
+        }
+
+        Node node = curr.node == null ? head : curr.node;
+        if (pos < 0) {
+            pos = 0;
+        }
+        while (pos < count - 1 && node.next.x <= x) {
+            node = node.next;
+            pos++;
+        }
+        return new Position(node, pos);
+    }
+
+    //Первый узел, для которого x - node.x < 1e-10: все узлы левее гарантированно вне допуска.
+    //Если такого узла нет — позиция (null, count)
+    Position firstNodeWithinTolerance(Node head, double x) {
+        Tower curr = header[Math.max(levels, 1) - 1];
+        int pos = -1;
+        while (true) {
+            while (curr.next != null && !(x - curr.next.node.x < 1e-10)) {
+                pos += curr.width;
+                curr = curr.next;
+            }
+            if (curr.down == null) {
+                break;
+            }
+            curr = curr.down;
+        }
+
+        //curr — последний узел вне допуска (или заголовок), следующий за ним — искомый
+        Node node = curr.node == null ? head : curr.node.next;
+        pos++;
+        while (pos < count && !(x - node.x < 1e-10)) {
+            node = node.next;
+            pos++;
+        }
+        return new Position(pos < count ? node : null, pos);
+    }
+
+    //Правка башен после вставки узла в список на позицию index
+    void inserted(Node node, int index) {
+        Tower[] update = new Tower[MAX_LEVEL];
+        int[] updatePos = new int[MAX_LEVEL];
+        findPredecessors(index, update, updatePos);
+        int height = randomHeight();
+        Tower down = null;
+        for (int l = 0; l < MAX_LEVEL; l++) {
+            Tower prev = update[l];
+            int prevPos = updatePos[l];
+            if (l < height) {
+                Tower tower = new Tower(node, down);
+                tower.next = prev.next;
+                tower.width = prevPos + prev.width + 1 - index;
+                prev.next = tower;
+                prev.width = index - prevPos;
+                down = tower;
+            } else {
+                prev.width++;
+            }
+        }
+        levels = Math.max(levels, height);
+        count++;
+    }
+
+    //Правка башен перед удалением из списка узла на позиции index
+    void removed(Node node, int index) {
+        Tower[] update = new Tower[MAX_LEVEL];
+        findPredecessors(index, update, new int[MAX_LEVEL]);
+        for (int l = 0; l < MAX_LEVEL; l++) {
+            Tower prev = update[l];
+            if (prev.next != null && prev.next.node == node) {
+                prev.width += prev.next.width - 1;
+                prev.next = prev.next.next;
+            } else {
+                prev.width--;
+            }
+        }
+        while (levels > 0 && header[levels - 1].next == null) {
+            levels--;
+        }
+        count--;
+    }
+
+    //Для каждого уровня — последний элемент с позицией строго меньше index и его позиция
+    private void findPredecessors(int index, Tower[] update, int[] updatePos) {
+        Tower curr = header[MAX_LEVEL - 1];
+        int pos = -1;
+        for (int l = MAX_LEVEL - 1; l >= 0; l--) {
+            while (curr.next != null && pos + curr.width < index) {
+                pos += curr.width;
+                curr = curr.next;
+            }
+            update[l] = curr;
+            updatePos[l] = pos;
+            curr = curr.down;
+        }
+    }
+
+    //Геометрическое распределение высоты с p = 1/2 (xorshift, чтобы не зависеть от Random)
+    private int randomHeight() {
+        seed ^= seed << 13;
+        seed ^= seed >>> 7;
+        seed ^= seed << 17;
+        int height = 1 + Long.numberOfTrailingZeros(seed | (1L << (MAX_LEVEL - 1)));
+        return Math.min(height, MAX_LEVEL);
+    }
+}
@@ -0,0 +1,366 @@
+package functions;
+
+import functions.factory.TabulatedFunctionFactory;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import static functions.DormandPrinceSolver.*;
+
+//Решение систем y' = f(x, y) с вектором состояния double[] той же парой Дормана–Принса 5(4),
+//что и DormandPrinceSolver. Все буферы стадий выделяются один раз на вызов solve,
+//сам шаг не создаёт объектов. Ошибка шага — среднеквадратичная по компонентам.
+//Для широких систем правая часть может вычисляться параллельно кусками компонент в пуле ForkJoin.
+//Результат — по одной таблице на компоненту, созданной фабрикой
+public class OdeSystemSolver {
+
+    private final DifferentialSystem system;
+    private final int dimension;
+    private final double absTolerance;
+    private final double relTolerance;
+    private final int maxSteps;
+
+    //параллельное вычисление правой части; pool == null — последовательно
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    public OdeSystemSolver(DifferentialSystem system, int dimension, double absTolerance, double relTolerance) {
+        this(system, dimension, absTolerance, relTolerance, 1_000_000, null, dimension);
+    }
+
+    //Правая часть считается в pool кусками по chunkSize компонент
+    public OdeSystemSolver(DifferentialSystem system, int dimension, double absTolerance, double relTolerance,
+                           ForkJoinPool pool, int chunkSize) {
+        this(system, dimension, absTolerance, relTolerance, 1_000_000, pool, chunkSize);
+        if (pool == null) {
+            throw new IllegalArgumentException("Пул не может быть null");
+        }
+    }
+
+    public OdeSystemSolver(DifferentialSystem system, int dimension, double absTolerance, double relTolerance,
+                           int maxSteps, ForkJoinPool pool, int chunkSize) {
+        if (system == null) {
+            throw new IllegalArgumentException("Система не может быть null");
+        }
+        if (dimension <= 0) {
+            throw new IllegalArgumentException("Размерность должна быть положительной");
+        }
+        if (!(absTolerance >= 0) || !(relTolerance >= 0) || (absTolerance == 0 && relTolerance == 0)) {
+            throw new IllegalArgumentException("Допуск должен быть неотрицательным и хотя бы один — положительным");
+        }
+        if (maxSteps <= 0 || chunkSize <= 0) {
+            throw new IllegalArgumentException("Число шагов и размер куска должны быть положительными");
+        }
+        this.system = system;
+        this.dimension = dimension;
+        this.absTolerance = absTolerance;
+        this.relTolerance = relTolerance;
+        this.maxSteps = maxSteps;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    public int getDimension() {
+        return dimension;
+    }
+
+    //Траектории компонент в принятых шагах от x0 до xEnd; элемент [i] — компонента i
+    public TabulatedFunction[] solve(double x0, double[] y0, double xEnd, TabulatedFunctionFactory factory) {
+        checkArguments(x0, y0, xEnd, factory);
+        Integration integration = new Integration();
+        Trajectory trajectory = new Trajectory();
+        trajectory.add(x0, y0);
+        integration.run(x0, y0, xEnd, () -> trajectory.add(integration.xNew, integration.yNew));
+        return trajectory.create(xEnd < x0, factory);
+    }
+
+    //Значения компонент на count равноотстоящих точках от x0 до xEnd (плотный вывод внутри шагов)
+    public TabulatedFunction[] solve(double x0, double[] y0, double xEnd, int count, TabulatedFunctionFactory factory) {
+        checkArguments(x0, y0, xEnd, factory);
+        if (count < 2) {
+            throw new IllegalArgumentException("Меньше 2х элементов");
+        }
+        double[] xValues = new double[count];
+        double[][] yValues = new double[dimension][count];
+        double gridStep = (xEnd - x0) / (count - 1);
+        for (int j = 0; j < count - 1; j++) {
+            xValues[j] = x0 + j * gridStep;
+        }
+        xValues[count - 1] = xEnd;
+        for (int i = 0; i < dimension; i++) {
+            yValues[i][0] = y0[i];
+        }
+
+        Integration integration = new Integration();
+        int[] next = {1};
+        integration.run(x0, y0, xEnd, () -> {
+            while (next[0] < count
+                    && (xEnd > x0 ? xValues[next[0]] <= integration.xNew : xValues[next[0]] >= integration.xNew)) {
+                double theta = (xValues[next[0]] - integration.x) / integration.h;
+                for (int i = 0; i < dimension; i++) {
+                    yValues[i][next[0]] = integration.interpolate(i, theta);
+                }
+                next[0]++;
+            }
+        });
+        return create(xValues, yValues, xEnd < x0, factory);
+    }
+
+    private void checkArguments(double x0, double[] y0, double xEnd, TabulatedFunctionFactory factory) {
+        if (factory == null) {
+            throw new IllegalArgumentException("Factory cannot be null");
+        }
+        if (y0 == null || y0.length != dimension) {
+            throw new IllegalArgumentException("Начальное состояние должно иметь размерность " + dimension);
+        }
+        if (!Double.isFinite(x0) || !Double.isFinite(xEnd) || x0 == xEnd) {
+            throw new IllegalArgumentException("Отрезок интегрирования должен быть конечным и ненулевым");
+        }
+    }
+
+    private TabulatedFunction[] create(double[] xValues, double[][] yValues, boolean backward,
+                                       TabulatedFunctionFactory factory) {
+        if (backward) {
+            reverse(xValues);
+        }
+        TabulatedFunction[] result = new TabulatedFunction[dimension];
+        for (int i = 0; i < dimension; i++) {
+            if (backward) {
+                reverse(yValues[i]);
+            }
+            result[i] = factory.create(xValues, yValues[i]);
+        }
+        return result;
+    }
+
+    //Растущие массивы x и компонент в принятых шагах
+    private final class Trajectory {
+        private double[] xs = new double[64];
+        private final double[][] ys = new double[dimension][64];
+        private int size;
+
+        void add(double x, double[] y) {
+            if (size == xs.length) {
+                int capacity = size + (size >> 1);
+                xs = Arrays.copyOf(xs, capacity);
+                for (int i = 0; i < dimension; i++) {
+                    ys[i] = Arrays.copyOf(ys[i], capacity);
+                }
+            }
+            xs[size] = x;
+            for (int i = 0; i < dimension; i++) {
+                ys[i][size] = y[i];
+            }
+            size++;
+        }
+
+        TabulatedFunction[] create(boolean backward, TabulatedFunctionFactory factory) {
+            double[][] yValues = new double[dimension][];
+            for (int i = 0; i < dimension; i++) {
+                yValues[i] = Arrays.copyOf(ys[i], size);
+            }
+            return OdeSystemSolver.this.create(Arrays.copyOf(xs, size), yValues, backward, factory);
+        }
+    }
+
+    private static void reverse(double[] values) {
+        for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+            double t = values[i];
+            values[i] = values[j];
+            values[j] = t;
+        }
+    }
+
+    //Состояние одного интегрирования: буферы стадий и принятый шаг [x, xNew] для плотного вывода
+    private final class Integration {
+        private double[] y = new double[dimension];
+        private double[] yNew = new double[dimension];
+        private final double[] stage = new double[dimension];
+        private double[] k1 = new double[dimension];
+        private final double[] k2 = new double[dimension];
+        private final double[] k3 = new double[dimension];
+        private final double[] k4 = new double[dimension];
+        private final double[] k5 = new double[dimension];
+        private final double[] k6 = new double[dimension];
+        private double[] k7 = new double[dimension];
+        private final RightHandSide rightHandSide = pool == null ? null : new RightHandSide();
+
+        private double x, xNew, h;
+
+        //вызывается после каждого принятого шага, пока x и y ещё указывают на его начало
+        void run(double x0, double[] y0, double xEnd, Runnable onStep) {
+            System.arraycopy(y0, 0, y, 0, dimension);
+            x = x0;
+            double direction = Math.signum(xEnd - x0);
+            evaluate(x, y, k1);
+            h = direction * initialStep(Math.abs(xEnd - x0));
+
+            for (int steps = 0; ; steps++) {
+                if (steps >= maxSteps) {
+                    throw new ArithmeticException("Решение не получено за " + maxSteps + " шагов");
+                }
+                boolean last = direction * (x + h - xEnd) >= 0;
+                if (last) {
+                    h = xEnd - x;
+                }
+
+                for (int i = 0; i < dimension; i++) {
+                    stage[i] = y[i] + h * A21 * k1[i];
+                }
+                evaluate(x + C2 * h, stage, k2);
+                for (int i = 0; i < dimension; i++) {
+                    stage[i] = y[i] + h * (A31 * k1[i] + A32 * k2[i]);
+                }
+                evaluate(x + C3 * h, stage, k3);
+                for (int i = 0; i < dimension; i++) {
+                    stage[i] = y[i] + h * (A41 * k1[i] + A42 * k2[i] + A43 * k3[i]);
+                }
+                evaluate(x + C4 * h, stage, k4);
+                for (int i = 0; i < dimension; i++) {
+                    stage[i] = y[i] + h * (A51 * k1[i] + A52 * k2[i] + A53 * k3[i] + A54 * k4[i]);
+                }
+                evaluate(x + C5 * h, stage, k5);
+                for (int i = 0; i < dimension; i++) {
+                    stage[i] = y[i] + h * (A61 * k1[i] + A62 * k2[i] + A63 * k3[i] + A64 * k4[i] + A65 * k5[i]);
+                }
+                evaluate(x + h, stage, k6);
+                for (int i = 0; i < dimension; i++) {
+                    yNew[i] = y[i] + h * (B1 * k1[i] + B3 * k3[i] + B4 * k4[i] + B5 * k5[i] + B6 * k6[i]);
+                }
+                xNew = last ? xEnd : x + h;
+                evaluate(xNew, yNew, k7);
+
+                double sum = 0;
+                for (int i = 0; i < dimension; i++) {
+                    double errorEstimate = h * (E1 * k1[i] + E3 * k3[i] + E4 * k4[i] + E5 * k5[i] + E6 * k6[i] + E7 * k7[i]);
+                    double scale = absTolerance + relTolerance * Math.max(Math.abs(y[i]), Math.abs(yNew[i]));
+                    double ratio = errorEstimate / scale;
+                    sum += ratio * ratio;
+                }
+                double error = Math.sqrt(sum / dimension);
+                if (Double.isNaN(error)) {
+                    throw new ArithmeticException("Решение не определено в x = " + (x + h));
+                }
+
+                if (error <= 1.0) {
+                    h = xNew - x;
+                    onStep.run();
+                    if (last) {
+                        return;
+                    }
+                    //принятое состояние и наклон в конце шага становятся началом следующего
+                    double[] t = y;
+                    y = yNew;
+                    yNew = t;
+                    t = k1;
+                    k1 = k7;
+                    k7 = t;
+                    x = xNew;
+                }
+
+                double factor = error == 0 ? MAX_FACTOR : SAFETY * Math.pow(error, -0.2);
+                factor = Math.min(MAX_FACTOR, Math.max(MIN_FACTOR, factor));
+                if (error > 1.0) {
+                    factor = Math.min(factor, 1.0);
+                }
+                h *= factor;
+                if (Math.abs(h) <= Math.ulp(x) * 16) {
+                    throw new ArithmeticException("Шаг стал слишком мал в x = " + x);
+                }
+            }
+        }
+
+        //плотный вывод компоненты i в точке x + theta * h
+        double interpolate(int i, double theta) {
+            double theta1 = 1 - theta;
+            double yDiff = yNew[i] - y[i];
+            double bspl = h * k1[i] - yDiff;
+            double r4 = yDiff - h * k7[i] - bspl;
+            double r5 = h * (D1 * k1[i] + D3 * k3[i] + D4 * k4[i] + D5 * k5[i] + D6 * k6[i] + D7 * k7[i]);
+            return y[i] + theta * (yDiff + theta1 * (bspl + theta * (r4 + theta1 * r5)));
+        }
+
+        //Начальный шаг по оценке производных в начальной точке (как в dopri5 Хайрера), k1 уже вычислен
+        private double initialStep(double length) {
+            double d0 = 0, d1 = 0;
+            for (int i = 0; i < dimension; i++) {
+                double scale = absTolerance + relTolerance * Math.abs(y[i]);
+                d0 += (y[i] / scale) * (y[i] / scale);
+                d1 += (k1[i] / scale) * (k1[i] / scale);
+            }
+            d0 = Math.sqrt(d0 / dimension);
+            d1 = Math.sqrt(d1 / dimension);
+            double h0 = (d0 < 1e-5 || d1 < 1e-5) ? 1e-6 : 0.01 * d0 / d1;
+            h0 = Math.min(h0, length);
+
+            for (int i = 0; i < dimension; i++) {
+                stage[i] = y[i] + h0 * k1[i];
+            }
+            evaluate(x + h0, stage, k2);
+            double d2 = 0;
+            for (int i = 0; i < dimension; i++) {
+                double scale = absTolerance + relTolerance * Math.abs(y[i]);
+                d2 += ((k2[i] - k1[i]) / scale) * ((k2[i] - k1[i]) / scale);
+            }
+            d2 = Math.sqrt(d2 / dimension) / h0;
+            double dMax = Math.max(d1, d2);
+            double h1 = dMax <= 1e-15 ? Math.max(1e-6, h0 * 1e-3) : Math.pow(0.01 / dMax, 0.2);
+            return Math.min(Math.min(100 * h0, h1), length);
+        }
+
+        private void evaluate(double x, double[] state, double[] out) {
+            if (rightHandSide == null) {
+                system.apply(x, state, out, 0, dimension);
+            } else {
+                rightHandSide.evaluate(x, state, out);
+            }
+        }
+    }
+
+    //Параллельная правая часть: задачи кусков создаются один раз и переиспользуются через reinitialize
+    private final class RightHandSide extends RecursiveAction {
+        private final Chunk[] chunks;
+        private double x;
+        private double[] state, out;
+
+        RightHandSide() {
+            int count = (dimension + chunkSize - 1) / chunkSize;
+            chunks = new Chunk[count];
+            for (int c = 0; c < count; c++) {
+                chunks[c] = new Chunk(c * chunkSize, Math.min(dimension, (c + 1) * chunkSize));
+            }
+        }
+
+        void evaluate(double x, double[] state, double[] out) {
+            this.x = x;
+            this.state = state;
+            this.out = out;
+            reinitialize();
+            pool.invoke(this);
+        }
+
+        @Override
+        protected void compute() {
+            for (Chunk chunk : chunks) {
+                chunk.reinitialize();
+            }
+            ForkJoinTask.invokeAll(chunks);
+        }
+
+        private final class Chunk extends RecursiveAction {
+            private final int from, to;
+
+            Chunk(int from, int to) {
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected void compute() {
+                system.apply(x, state, out, from, to);
+            }
+        }
+    }
+}
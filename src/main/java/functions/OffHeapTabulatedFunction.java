@@ -0,0 +1,405 @@
+package functions;
+
+import exception.InterpolationException;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+//Табулированная функция, хранящая точки вне кучи в MemorySegment.
+//Раскладка колоночная: в одном сегменте сначала capacity значений x, затем capacity значений y,
+//поэтому поиск по x идёт по непрерывному участку памяти.
+//Память принадлежит собственной Arena функции и освобождается явно через close();
+//после close() любое обращение к точкам выбрасывает IllegalStateException
+public class OffHeapTabulatedFunction extends AbstractTabulatedFunction implements Insertable, Removable, AutoCloseable, RandomAccess {
+
+    private static final ValueLayout.OfDouble DOUBLE = ValueLayout.JAVA_DOUBLE;
+    private static final long DOUBLE_BYTES = DOUBLE.byteSize();
+
+    //минимальная ёмкость, ниже которой сегмент при удалении не сжимается
+    private static final int MIN_CAPACITY = 16;
+
+    //размер блока при дискретизации: значения считаются в небольшом буфере кучи и копируются в сегмент
+    private static final int TABULATE_BLOCK = 4096;
+
+    private Arena arena;
+    private MemorySegment segment;
+    private int capacity;
+    private boolean closed;
+
+    public OffHeapTabulatedFunction(double[] xVal, double[] yVal) {
+        if (xVal.length < 2) {
+            throw new IllegalArgumentException("Таблица должна содержать как минимум 2 точки");
+        }
+        checkLengthIsTheSame(xVal, yVal);
+        checkSorted(xVal);
+
+        allocate(xVal.length);
+        this.count = xVal.length;
+        MemorySegment.copy(xVal, 0, segment, DOUBLE, xOffset(0), count);
+        MemorySegment.copy(yVal, 0, segment, DOUBLE, yOffset(0), count);
+    }
+
+    //конструктор с дискретизацией: кучу не требует, значения считаются блоками через applyAll
+    public OffHeapTabulatedFunction(MathFunction s, double xFrom, double xTo, int count) {
+        if (count < 2) {
+            throw new IllegalArgumentException("Меньше 2х элементов");
+        }
+        if (xFrom > xTo) {
+            double t = xFrom;
+            xFrom = xTo;
+            xTo = t;
+        }
+
+        allocate(count);
+        this.count = count;
+
+        double step = (xTo - xFrom) / (count - 1);
+        double[] xs = new double[Math.min(TABULATE_BLOCK, count)];
+        double[] ys = new double[xs.length];
+        try {
+            for (int start = 0; start < count; start += xs.length) {
+                int length = Math.min(xs.length, count - start);
+                if (length < xs.length) {
+                    xs = new double[length];
+                    ys = new double[length];
+                }
+                for (int i = 0; i < length; i++) {
+                    xs[i] = xFrom == xTo ? xFrom : xFrom + (start + i) * step;
+                }
+                s.applyAll(xs, ys);
+                MemorySegment.copy(xs, 0, segment, DOUBLE, xOffset(start), length);
+                MemorySegment.copy(ys, 0, segment, DOUBLE, yOffset(start), length);
+            }
+        } catch (RuntimeException | Error e) {
+            //объект не будет создан, и закрыть его память больше некому;
+            //арена закрывается напрямую, без переопределяемого close()
+            arena.close();
+            throw e;
+        }
+    }
+
+    //Освобождает память вне кучи. Повторный вызов ничего не делает
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            arena.close();
+        }
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    //Текущая ёмкость сегмента в точках
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private long xOffset(int index) {
+        return index * DOUBLE_BYTES;
+    }
+
+    private long yOffset(int index) {
+        return (capacity + (long) index) * DOUBLE_BYTES;
+    }
+
+    private double x(int index) {
+        return segment.get(DOUBLE, xOffset(index));
+    }
+
+    private double y(int index) {
+        return segment.get(DOUBLE, yOffset(index));
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Память функции уже освобождена");
+        }
+    }
+
+    //Выделение нового сегмента в отдельной Arena, чтобы старый можно было сразу освободить
+    private void allocate(int newCapacity) {
+        this.arena = Arena.ofShared();
+        this.segment = arena.allocate(2L * newCapacity * DOUBLE_BYTES, DOUBLE_BYTES);
+        this.capacity = newCapacity;
+    }
+
+    private void resize(int newCapacity) {
+        Arena oldArena = arena;
+        MemorySegment oldSegment = segment;
+        int oldCapacity = capacity;
+
+        allocate(newCapacity);
+        MemorySegment.copy(oldSegment, 0, segment, xOffset(0), count * DOUBLE_BYTES);
+        MemorySegment.copy(oldSegment, oldCapacity * DOUBLE_BYTES, segment, yOffset(0), count * DOUBLE_BYTES);
+        oldArena.close();
+    }
+
+    //Геометрический рост (в 1.5 раза), как у ArrayTabulatedFunction
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > capacity) {
+            resize(Math.max(minCapacity, capacity + (capacity >> 1)));
+        }
+    }
+
+    //Обрезает сегмент до текущего количества точек
+    public void trimToSize() {
+        checkOpen();
+        if (capacity > count) {
+            resize(count);
+        }
+    }
+
+    @Override
+    protected double extrapolateLeft(double x) {
+        return interpolate(x, x(0), x(1), y(0), y(1));
+    }
+
+    @Override
+    protected double extrapolateRight(double x) {
+        return interpolate(x, x(count - 2), x(count - 1), y(count - 2), y(count - 1));
+    }
+
+    @Override
+    protected double interpolate(double x, int floorIndex) {
+        if (floorIndex < 0 || floorIndex >= count - 1) {
+            throw new IndexOutOfBoundsException("Аут оф индекс: " + floorIndex);
+        }
+
+        double x1 = x(floorIndex);
+        double x2 = x(floorIndex + 1);
+        if (x < x1 || x > x2) {
+            throw new InterpolationException(
+                    "Значение x = " + x + " не находится в интервале [" + x1 + ", " + x2 + "]");
+        }
+        return interpolate(x, x1, x2, y(floorIndex), y(floorIndex + 1));
+    }
+
+    @Override
+    protected int floorIndexOfX(double x) {
+        if (x < leftBound()) {
+            throw new IllegalArgumentException("Значение x = " + x + " меньше левой границы таблицы ");
+        }
+        if (x > rightBound()) {
+            throw new IllegalArgumentException("Значение x = " + x + " больше правой границы таблицы ");
+        }
+
+        int upper = upperBoundOfX(x);
+        return upper == 0 ? 0 : upper - 1;
+    }
+
+    //первый индекс i, для которого x[i] > x, либо count
+    private int upperBoundOfX(double x) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (x(mid) > x) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    //первый индекс i, для которого x[i] >= x, либо count (позиция вставки)
+    private int lowerBoundOfX(double x) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (x(mid) < x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    //первый индекс i, для которого x - x[i] < 1e-10, либо count
+    private int firstIndexWithinTolerance(double x) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (x - x(mid) < 1e-10) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public double apply(double x) {
+        if (x < leftBound()) {
+            return extrapolateLeft(x);
+        } else if (x > rightBound()) {
+            return extrapolateRight(x);
+        } else {
+            int index = indexOfX(x);
+            if (index != -1) {
+                return y(index);
+            }
+            return interpolate(x, floorIndexOfX(x));
+        }
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public double getX(int index) {
+        checkOpen();
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+        }
+        return x(index);
+    }
+
+    @Override
+    public double getY(int index) {
+        checkOpen();
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+        }
+        return y(index);
+    }
+
+    @Override
+    public void setY(int index, double value) {
+        checkOpen();
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+        }
+        segment.set(DOUBLE, yOffset(index), value);
+    }
+
+    @Override
+    public int indexOfX(double x) {
+        checkOpen();
+        for (int i = firstIndexWithinTolerance(x); i < count; i++) {
+            double diff = x(i) - x;
+            if (diff >= 1e-10) {
+                break;
+            }
+            if (Math.abs(diff) < 1e-10) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int indexOfY(double y) {
+        checkOpen();
+        for (int i = 0; i < count; i++) {
+            if (Math.abs(y(i) - y) < 1e-10) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public double leftBound() {
+        checkOpen();
+        return x(0);
+    }
+
+    @Override
+    public double rightBound() {
+        checkOpen();
+        return x(count - 1);
+    }
+
+    @Override
+    public void insert(double x, double y) {
+        int existingIndex = indexOfX(x);
+        if (existingIndex != -1) {
+            segment.set(DOUBLE, yOffset(existingIndex), y);
+            return;
+        }
+
+        int insertIndex = lowerBoundOfX(x);
+        ensureCapacity(count + 1);
+
+        //MemorySegment.copy корректно сдвигает перекрывающиеся участки
+        long tailBytes = (count - insertIndex) * DOUBLE_BYTES;
+        MemorySegment.copy(segment, xOffset(insertIndex), segment, xOffset(insertIndex + 1), tailBytes);
+        MemorySegment.copy(segment, yOffset(insertIndex), segment, yOffset(insertIndex + 1), tailBytes);
+
+        segment.set(DOUBLE, xOffset(insertIndex), x);
+        segment.set(DOUBLE, yOffset(insertIndex), y);
+        count++;
+    }
+
+    @Override
+    public void remove(int index) {
+        checkOpen();
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Индекс: " + index + ", размер: " + count);
+        }
+
+        long tailBytes = (count - index - 1) * DOUBLE_BYTES;
+        MemorySegment.copy(segment, xOffset(index + 1), segment, xOffset(index), tailBytes);
+        MemorySegment.copy(segment, yOffset(index + 1), segment, yOffset(index), tailBytes);
+        count--;
+
+        if (capacity > MIN_CAPACITY && count < capacity / 4) {
+            resize(Math.max(MIN_CAPACITY, capacity / 2));
+        }
+    }
+
+    //Копии значений в кучу (для небольших таблиц и тестов)
+    public double[] getXValues() {
+        checkOpen();
+        return segment.asSlice(xOffset(0), count * DOUBLE_BYTES).toArray(DOUBLE);
+    }
+
+    public double[] getYValues() {
+        checkOpen();
+        return segment.asSlice(yOffset(0), count * DOUBLE_BYTES).toArray(DOUBLE);
+    }
+
+    @Override
+    public void forEachPoint(PointConsumer consumer) {
+        checkOpen();
+        for (int i = 0; i < count; i++) {
+            consumer.accept(x(i), y(i));
+        }
+    }
+
+    @Override
+    public Iterator<Point> iterator() {
+        checkOpen();
+        return new Iterator<Point>() {
+            private int i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < count;
+            }
+
+            @Override
+            public Point next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("Элементов больше нет, ы");
+                }
+                Point point = new Point(getX(i), getY(i));
+                i++;
+                return point;
+            }
+        };
+    }
+}
@@ -0,0 +1,7 @@
+package functions;
+
+//Получатель точек табулированной функции без создания объектов Point
+@FunctionalInterface
+public interface PointConsumer {
+    void accept(double x, double y);
+}
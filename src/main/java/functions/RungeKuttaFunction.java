@@ -6,6 +6,7 @@ public class RungeKuttaFunction implements MathFunction{
     private final double x0;
     private final double y0;
     private final double step;
+    private static final int BATCH_STEPS = 256;//сколько шагов вычисляется одним вызовом applyAll
 
     //Конструктор
     public RungeKuttaFunction(MathFunction dEquation, double x0, double y0, double step){
@@ -27,20 +28,41 @@ public class RungeKuttaFunction implements MathFunction{
         double currX = x0;
         double currY = y0;
 
-        for(int i = 0; i < steps; i++){//для каждого шага вычисляем расчет шага
-            currY = rungeKuttaStep(currX, currY, step);
-            currX += step;
+        //Точки шагов известны заранее (правая часть зависит только от x),
+        //поэтому наклоны вычисляются пачками: x, x + h/2, x + h на каждый шаг
+        double[] xs = new double[3 * Math.max(0, Math.min(steps, BATCH_STEPS))];
+        double[] slopes = new double[xs.length];
+        for(int done = 0; done < steps; ){
+            int size = Math.min(BATCH_STEPS, steps - done);
+            if (3 * size != xs.length) {//последняя неполная пачка
+                xs = new double[3 * size];
+                slopes = new double[xs.length];
+            }
+            double stepX = currX;
+            for (int k = 0; k < size; k++) {
+                xs[3 * k] = stepX;
+                xs[3 * k + 1] = stepX + step/2;
+                xs[3 * k + 2] = stepX + step;
+                stepX += step;
+            }
+            dEquation.applyAll(xs, slopes);
+
+            for(int k = 0; k < size; k++){//для каждого шага вычисляем расчет шага
+                currY = rungeKuttaStep(currY, step, slopes[3 * k], slopes[3 * k + 1], slopes[3 * k + 2]);
+                currX += step;
+            }
+            done += size;
         }
 
         return currY;
     }
 
-    //Метод, который вычисляет шаг, зависящий от текущих данных
-    private double rungeKuttaStep(double x, double y, double h){
-        double k1 = h * dEquation.apply(x);//Наклон в начале интервала
-        double k2 = h * dEquation.apply(x + h/2);//Наклон в середине (через k1)
-        double k3 = h * dEquation.apply(x + h/2);//Другой наклон в середине(через k2)
-        double k4 = h * dEquation.apply(x + h);//Наклон в конце интервала
+    //Метод, который вычисляет шаг по наклонам в начале, середине и конце интервала
+    private double rungeKuttaStep(double y, double h, double startSlope, double midSlope, double endSlope){
+        double k1 = h * startSlope;//Наклон в начале интервала
+        double k2 = h * midSlope;//Наклон в середине (через k1)
+        double k3 = h * midSlope;//Другой наклон в середине(через k2): правая часть не зависит от y, совпадает с k2
+        double k4 = h * endSlope;//Наклон в конце интервала
 
         return y + (k1 + 2*k2 + 2*k3 + k4) / 6;
     }
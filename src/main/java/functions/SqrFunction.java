@@ -1,5 +1,7 @@
 package functions;
 
+import exception.DifferentLengthOfArraysException;
+
 public class SqrFunction implements MathFunction{
 
     @Override
@@ -7,4 +9,15 @@ public class SqrFunction implements MathFunction{
         return Math.pow(x,2);
     }
 
+    @Override
+    public void applyAll(double[] xs, double[] out){
+        if (xs.length != out.length) {
+            throw new DifferentLengthOfArraysException("Длины ОШИБКА");
+        }
+        for (int i = 0; i < xs.length; i++) {
+            double x = xs[i];
+            out[i] = x * x;
+        }
+    }
+
 }
@@ -61,6 +61,11 @@ public class StrictTabulatedFunction implements TabulatedFunction{
         return function.rightBound();
     }
 
+    @Override
+    public void forEachPoint(PointConsumer consumer){
+        function.forEachPoint(consumer);
+    }
+
     @Override
     public Iterator<Point> iterator(){
         return function.iterator();
@@ -12,4 +12,12 @@ public interface TabulatedFunction extends MathFunction, Iterable<Point>{
     double leftBound();
     double rightBound();
 
+    //Обход всех точек по порядку без выделения Point на каждую точку
+    default void forEachPoint(PointConsumer consumer) {
+        int count = getCount();
+        for (int i = 0; i < count; i++) {
+            consumer.accept(getX(i), getY(i));
+        }
+    }
+
 }
@@ -0,0 +1,270 @@
+package functions;
+
+import exception.InterpolationException;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+//Табулированная функция на равномерной сетке: хранит только xFrom, step и значения y.
+//x вычисляется как xFrom + i * step (так же, как в конструкторах с дискретизацией),
+//поиск интервала — прямым делением (x - xFrom) / step за O(1)
+public class UniformTabulatedFunction extends AbstractTabulatedFunction implements Serializable, RandomAccess {
+    private static final long serialVersionUID = 3817203385021647152L;
+
+    private final double xFrom;
+    private final double step;
+    private final double[] yVal;
+
+    //конструктор по готовой сетке
+    public UniformTabulatedFunction(double xFrom, double step, double[] yVal) {
+        if (yVal.length < 2) {
+            throw new IllegalArgumentException("Таблица должна содержать как минимум 2 точки");
+        }
+        if (!(step > 0) || Double.isInfinite(step)) {
+            throw new IllegalArgumentException("Шаг сетки должен быть положительным: " + step);
+        }
+        this.xFrom = xFrom;
+        this.step = step;
+        this.yVal = Arrays.copyOf(yVal, yVal.length);
+        this.count = yVal.length;
+    }
+
+    //конструктор с дискретизацией функции
+    public UniformTabulatedFunction(MathFunction s, double xFrom, double xTo, int count) {
+        if (count < 2) {
+            throw new IllegalArgumentException("Меньше 2х элементов");
+        }
+        if (xFrom == xTo) {
+            throw new IllegalArgumentException("Равномерная сетка требует xFrom != xTo");
+        }
+        if (xFrom > xTo) {
+            double t = xFrom;
+            xFrom = xTo;
+            xTo = t;
+        }
+
+        this.xFrom = xFrom;
+        this.step = (xTo - xFrom) / (count - 1);
+        this.count = count;
+        this.yVal = new double[count];
+
+        double[] xVal = new double[count];
+        for (int i = 0; i < count; i++) {
+            xVal[i] = xFrom + i * step;
+        }
+        s.applyAll(xVal, yVal);
+    }
+
+    //Проверка, что массив x образует равномерную сетку (с относительной погрешностью 1e-9 от шага)
+    public static boolean isUniform(double[] xValues) {
+        if (xValues.length < 2) {
+            return false;
+        }
+        int count = xValues.length;
+        double xFrom = xValues[0];
+        double step = (xValues[count - 1] - xFrom) / (count - 1);
+        if (!(step > 0)) {
+            return false;
+        }
+        double tolerance = step * 1e-9;
+        for (int i = 1; i < count; i++) {
+            if (Math.abs(xValues[i] - (xFrom + i * step)) > tolerance) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public double getXFrom() {
+        return xFrom;
+    }
+
+    public double getStep() {
+        return step;
+    }
+
+    //Совпадают ли сетки двух функций точно (тогда совпадают и все x)
+    public boolean hasSameGrid(UniformTabulatedFunction other) {
+        return xFrom == other.xFrom && step == other.step && count == other.count;
+    }
+
+    @Override
+    protected int floorIndexOfX(double x) {
+        if (x < leftBound()) {
+            throw new IllegalArgumentException("Значение x = " + x + " меньше левой границы таблицы ");
+        }
+        if (x > rightBound()) {
+            throw new IllegalArgumentException("Значение x = " + x + " больше правой границы таблицы ");
+        }
+
+        int index = estimateIndex(x);
+        //деление может ошибиться на единицу из-за округления — подправляем по настоящим x
+        while (index > 0 && getXUnchecked(index) > x) {
+            index--;
+        }
+        while (index < count - 1 && getXUnchecked(index + 1) <= x) {
+            index++;
+        }
+        return index;
+    }
+
+    private int estimateIndex(double x) {
+        double position = Math.floor((x - xFrom) / step);
+        if (!(position >= 0)) {
+            return 0;
+        }
+        if (position >= count - 1) {
+            return count - 1;
+        }
+        return (int) position;
+    }
+
+    private double getXUnchecked(int index) {
+        return xFrom + index * step;
+    }
+
+    @Override
+    protected double extrapolateLeft(double x) {
+        return interpolate(x, getXUnchecked(0), getXUnchecked(1), yVal[0], yVal[1]);
+    }
+
+    @Override
+    protected double extrapolateRight(double x) {
+        return interpolate(x, getXUnchecked(count - 2), getXUnchecked(count - 1), yVal[count - 2], yVal[count - 1]);
+    }
+
+    @Override
+    protected double interpolate(double x, int floorIndex) {
+        if (floorIndex < 0 || floorIndex >= count - 1) {
+            throw new IndexOutOfBoundsException("Аут оф индекс: " + floorIndex);
+        }
+
+        double x1 = getXUnchecked(floorIndex);
+        double x2 = getXUnchecked(floorIndex + 1);
+        if (x < x1 || x > x2) {
+            throw new InterpolationException(
+                    "Значение x = " + x + " не находится в интервале [" + x1 + ", " + x2 + "]");
+        }
+        return interpolate(x, x1, x2, yVal[floorIndex], yVal[floorIndex + 1]);
+    }
+
+    @Override
+    public double apply(double x) {
+        if (x < leftBound()) {
+            return extrapolateLeft(x);
+        } else if (x > rightBound()) {
+            return extrapolateRight(x);
+        } else {
+            int index = indexOfX(x);
+            if (index != -1) {
+                return yVal[index];
+            }
+            return interpolate(x, floorIndexOfX(x));
+        }
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public double getX(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+        }
+        return getXUnchecked(index);
+    }
+
+    @Override
+    public double getY(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+        }
+        return yVal[index];
+    }
+
+    @Override
+    public void setY(int index, double value) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+        }
+        yVal[index] = value;
+    }
+
+    @Override
+    public int indexOfX(double x) {
+        //от расчётного индекса влево до первой точки в допуске 1e-10, затем вправо (обычно 1-2 шага)
+        int i = estimateIndex(x);
+        while (i > 0 && x - getXUnchecked(i - 1) < 1e-10) {
+            i--;
+        }
+        for (; i < count; i++) {
+            double diff = getXUnchecked(i) - x;
+            if (diff >= 1e-10) {
+                break;
+            }
+            if (Math.abs(diff) < 1e-10) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int indexOfY(double y) {
+        for (int i = 0; i < count; i++) {
+            if (Math.abs(yVal[i] - y) < 1e-10) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public double leftBound() {
+        return xFrom;
+    }
+
+    @Override
+    public double rightBound() {
+        return getXUnchecked(count - 1);
+    }
+
+    //копия значений y (x у равномерной сетки не хранятся)
+    public double[] getYValues() {
+        return Arrays.copyOf(yVal, count);
+    }
+
+    @Override
+    public void forEachPoint(PointConsumer consumer) {
+        for (int i = 0; i < count; i++) {
+            consumer.accept(getXUnchecked(i), yVal[i]);
+        }
+    }
+
+    @Override
+    public Iterator<Point> iterator() {
+        return new Iterator<Point>() {
+            private int i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < count;
+            }
+
+            @Override
+            public Point next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("Элементов больше нет, ы");
+                }
+                Point point = new Point(getXUnchecked(i), yVal[i]);
+                i++;
+                return point;
+            }
+        };
+    }
+}
@@ -18,6 +18,11 @@ public class UnmodifiableTabulatedFunction implements TabulatedFunction {
         return tabulatedFunction.apply(x);
     }
 
+    @Override
+    public void applyAll(double[] xs, double[] out) {
+        tabulatedFunction.applyAll(xs, out);
+    }
+
     @Override
     public int getCount() {
         return tabulatedFunction.getCount();
@@ -58,6 +63,10 @@ public class UnmodifiableTabulatedFunction implements TabulatedFunction {
         return 0;
     }
 
+    @Override
+    public void forEachPoint(PointConsumer consumer) {
+        tabulatedFunction.forEachPoint(consumer);
+    }
 
     @Override
     public Iterator<Point> iterator() {
@@ -4,8 +4,24 @@ import functions.LinkedListTabulatedFunction;
 import functions.TabulatedFunction;
 
 public class LinkedListTabulatedFunctionFactory implements TabulatedFunctionFactory{
+
+    //true — создавать списки с skip-list индексом (O(log n) поиск для больших таблиц)
+    private final boolean indexed;
+
+    public LinkedListTabulatedFunctionFactory() {
+        this(false);
+    }
+
+    public LinkedListTabulatedFunctionFactory(boolean indexed) {
+        this.indexed = indexed;
+    }
+
+    public boolean isIndexed() {
+        return indexed;
+    }
+
     @Override
     public TabulatedFunction create(double[] xValues, double[] yValues){
-        return new LinkedListTabulatedFunction(xValues, yValues);
+        return new LinkedListTabulatedFunction(xValues, yValues, indexed);
     }
 }
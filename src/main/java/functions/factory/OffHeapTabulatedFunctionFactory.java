@@ -0,0 +1,12 @@
+package functions.factory;
+
+import functions.OffHeapTabulatedFunction;
+import functions.TabulatedFunction;
+
+//Создаёт функции с точками вне кучи. Вызывающий отвечает за close() созданной функции
+public class OffHeapTabulatedFunctionFactory implements TabulatedFunctionFactory{
+    @Override
+    public TabulatedFunction create(double[] xValues, double[] yValues){
+        return new OffHeapTabulatedFunction(xValues, yValues);
+    }
+}
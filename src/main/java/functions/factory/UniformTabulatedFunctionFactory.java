@@ -0,0 +1,23 @@
+package functions.factory;
+
+import functions.TabulatedFunction;
+import functions.UniformTabulatedFunction;
+
+public class UniformTabulatedFunctionFactory implements TabulatedFunctionFactory{
+    @Override
+    public TabulatedFunction create(double[] xValues, double[] yValues){
+        if (xValues.length != yValues.length) {
+            throw new IllegalArgumentException("Длины ОШИБКА");
+        }
+        if (!UniformTabulatedFunction.isUniform(xValues)) {
+            throw new IllegalArgumentException("Значения x не образуют равномерную сетку");
+        }
+        double step = (xValues[xValues.length - 1] - xValues[0]) / (xValues.length - 1);
+        return new UniformTabulatedFunction(xValues[0], step, yValues);
+    }
+
+    //Создание сразу по параметрам сетки, без массива x
+    public TabulatedFunction create(double xFrom, double step, double[] yValues){
+        return new UniformTabulatedFunction(xFrom, step, yValues);
+    }
+}
@@ -2,7 +2,6 @@ package io;
 
 import functions.ArrayTabulatedFunction;
 import functions.TabulatedFunction;
-import functions.MathFunction;
 import operations.MiddleSteppingDifferentialOperator;
 import operations.TabulatedDifferentialOperator;
 
@@ -36,19 +35,10 @@ public class ArrayTabulatedFunctionSerialization{
             // Создаём оператор дифференцирования с шагом 0.001
             TabulatedDifferentialOperator operator = new TabulatedDifferentialOperator ();
 
-            // Вычисляем первую производную (должна быть ~2x)
-            MathFunction derived1 = operator.derive(originalFunction);
-            if (!(derived1 instanceof TabulatedFunction)) {
-                throw new IllegalStateException("Первая производная не реализует TabulatedFunction: " + derived1.getClass().getName());
-            }
-            TabulatedFunction firstDerivative = (TabulatedFunction) derived1;
-
-            // Вычисляем вторую производную (должна быть ~2.0)
-            MathFunction derived2 = operator.derive(firstDerivative);
-            if (!(derived2 instanceof TabulatedFunction)) {
-                throw new IllegalStateException("Вторая производная не реализует TabulatedFunction: " + derived2.getClass().getName());
-            }
-            TabulatedFunction secondDerivative = (TabulatedFunction) derived2;
+            // Первая (~2x) и вторая (~2.0) производные за один проход по точкам
+            TabulatedFunction[] derivatives = operator.deriveAll(originalFunction, 2);
+            TabulatedFunction firstDerivative = derivatives[0];
+            TabulatedFunction secondDerivative = derivatives[1];
 
             // Сериализуем все три функции в поток
             FunctionsIO.serialize(bufferedOut, originalFunction);
@@ -4,8 +4,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.thoughtworks.xstream.XStream;
 import com.thoughtworks.xstream.io.xml.DomDriver;
 import functions.ArrayTabulatedFunction;
+import functions.MappedTabulatedFunction;
 import functions.TabulatedFunction;
-import functions.Point;
 import functions.factory.TabulatedFunctionFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -14,8 +14,28 @@ import java.text.ParseException;
 import java.util.Locale;
 
 import java.io.*;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
 
 public final class FunctionsIO {
+    //Колоночный бинарный формат для отображения в память (все числа little-endian):
+    //  заголовок 32 байта: int magic "TABF", int версия, int флаги, int резерв,
+    //                      long количество точек, long CRC32 столбцов (0, если флаг не выставлен);
+    //  затем count значений x, затем count значений y (double).
+    //Столбцы начинаются с выровненного смещения 32, так что открытие файла — O(1)
+    private static final int MAPPED_MAGIC = 0x46424154; //"TABF" в little-endian
+    private static final int MAPPED_VERSION = 1;
+    private static final int MAPPED_FLAG_CHECKSUM = 1;
+    private static final int MAPPED_HEADER_BYTES = 32;
+    private static final int MAPPED_WRITE_BUFFER = 1 << 16;
+
     private FunctionsIO() {
         throw new UnsupportedOperationException("Не удается создать экземпляр служебного класса");
     }
@@ -25,9 +45,7 @@ public final class FunctionsIO {
 
         printWriter.println(function.getCount());
 
-        for (Point point : function) {
-            printWriter.printf("%f %f\n", point.x, point.y);
-        }
+        function.forEachPoint((x, y) -> printWriter.printf("%f %f\n", x, y));
 
         printWriter.flush();
     }
@@ -37,9 +55,17 @@ public final class FunctionsIO {
 
         dataOutputStream.writeInt(function.getCount());
 
-        for (Point point : function) {
-            dataOutputStream.writeDouble(point.x);
-            dataOutputStream.writeDouble(point.y);
+        try {
+            function.forEachPoint((x, y) -> {
+                try {
+                    dataOutputStream.writeDouble(x);
+                    dataOutputStream.writeDouble(y);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
 
         dataOutputStream.flush();
@@ -104,6 +130,109 @@ public final class FunctionsIO {
 
         return factory.create(xValues, yValues);
     }
+    public static void writeMappedTabulatedFunction(Path path, TabulatedFunction function) throws IOException {
+        writeMappedTabulatedFunction(path, function, true);
+    }
+
+    //Запись в колоночном формате: заголовок, столбец x, столбец y; CRC32 считается на лету
+    public static void writeMappedTabulatedFunction(Path path, TabulatedFunction function, boolean withChecksum)
+            throws IOException {
+        int count = function.getCount();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(MAPPED_WRITE_BUFFER).order(ByteOrder.LITTLE_ENDIAN);
+            CRC32 crc = new CRC32();
+
+            channel.position(MAPPED_HEADER_BYTES);
+            for (int column = 0; column < 2; column++) {
+                for (int i = 0; i < count; i++) {
+                    if (buffer.remaining() < Double.BYTES) {
+                        flushColumnBuffer(channel, buffer, crc);
+                    }
+                    buffer.putDouble(column == 0 ? function.getX(i) : function.getY(i));
+                }
+            }
+            flushColumnBuffer(channel, buffer, crc);
+
+            buffer.putInt(MAPPED_MAGIC)
+                    .putInt(MAPPED_VERSION)
+                    .putInt(withChecksum ? MAPPED_FLAG_CHECKSUM : 0)
+                    .putInt(0)
+                    .putLong(count)
+                    .putLong(withChecksum ? crc.getValue() : 0L)
+                    .flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, buffer.position());
+            }
+        }
+    }
+
+    private static void flushColumnBuffer(FileChannel channel, ByteBuffer buffer, CRC32 crc) throws IOException {
+        buffer.flip();
+        crc.update(buffer.array(), 0, buffer.limit());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    //Открытие за O(1): проверяется только заголовок и размер файла, столбцы не читаются
+    public static MappedTabulatedFunction mapTabulatedFunction(Path path) throws IOException {
+        return mapTabulatedFunction(path, false);
+    }
+
+    //verifyChecksum = true дополнительно сверяет CRC32 (полный проход по файлу, если контрольная сумма записана)
+    public static MappedTabulatedFunction mapTabulatedFunction(Path path, boolean verifyChecksum) throws IOException {
+        Arena arena = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < MAPPED_HEADER_BYTES) {
+                throw new IOException("Файл слишком короткий для заголовка: " + size + " байт");
+            }
+            MemorySegment file = channel.map(FileChannel.MapMode.READ_ONLY, 0, size, arena);
+            ByteBuffer header = file.asSlice(0, MAPPED_HEADER_BYTES).asByteBuffer().order(ByteOrder.LITTLE_ENDIAN);
+
+            if (header.getInt() != MAPPED_MAGIC) {
+                throw new IOException("Неизвестный формат файла");
+            }
+            int version = header.getInt();
+            if (version != MAPPED_VERSION) {
+                throw new IOException("Неподдерживаемая версия формата: " + version);
+            }
+            int flags = header.getInt();
+            header.getInt();
+            long count = header.getLong();
+            long checksum = header.getLong();
+
+            long columnBytes = count * Double.BYTES;
+            if (count < 2 || count > Integer.MAX_VALUE || size != MAPPED_HEADER_BYTES + 2 * columnBytes) {
+                throw new IOException("Размер файла не соответствует количеству точек " + count);
+            }
+            MemorySegment columns = file.asSlice(MAPPED_HEADER_BYTES, 2 * columnBytes);
+            if (verifyChecksum && (flags & MAPPED_FLAG_CHECKSUM) != 0 && checksumOf(columns) != checksum) {
+                throw new IOException("Контрольная сумма не совпадает");
+            }
+
+            return new MappedTabulatedFunction(arena,
+                    columns.asSlice(0, columnBytes), columns.asSlice(columnBytes, columnBytes));
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    //Сумма считается через небольшой буфер: ByteBuffer поверх сегмента общей Arena CRC32 не принимает
+    private static long checksumOf(MemorySegment segment) {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[MAPPED_WRITE_BUFFER];
+        for (long offset = 0; offset < segment.byteSize(); offset += buffer.length) {
+            int length = (int) Math.min(buffer.length, segment.byteSize() - offset);
+            MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, offset, buffer, 0, length);
+            crc.update(buffer, 0, length);
+        }
+        return crc.getValue();
+    }
+
     public static void serialize(BufferedOutputStream stream, TabulatedFunction function)
             throws IOException {
 
@@ -0,0 +1,195 @@
+package operations;
+
+import functions.MathFunction;
+
+import java.util.concurrent.RecursiveTask;
+
+//Адаптивное интегрирование по правилу Гаусса–Кронрода G7-K15.
+//Отрезок делится пополам только там, где локальная оценка ошибки |K15 - G7| больше доли допуска,
+//пропорциональной длине отрезка; гладкие участки (например, пологие хвосты) остаются одним куском.
+//Подзадачи отдаются в пул, только пока в очереди мало работы, иначе считаются в текущем потоке,
+//так что число задач растёт там, где больше вычислений.
+//Если на куске значение или ошибка не конечны (функция там NaN или бесконечна), деление не поможет —
+//выбрасывается ArithmeticException
+public class AdaptiveIntegral extends RecursiveTask<AdaptiveIntegral.Estimate> {
+
+    //Значение интеграла на отрезке, оценка ошибки и число вычислений функции
+    public record Estimate(double value, double error, long evaluations) {
+        Estimate plus(Estimate other) {
+            return new Estimate(value + other.value, error + other.error, evaluations + other.evaluations);
+        }
+    }
+
+    //число равных кусков, на которые отрезок делится до оценки допуска
+    private static final int INITIAL_PANELS = 16;
+    //ограничение глубины деления: ширина куска не меньше (b - a) / 2^50
+    private static final int MAX_DEPTH = 50;
+    //пока в очереди потока не больше стольких задач, подзадачи отдаются в пул
+    private static final int SURPLUS_TASKS = 3;
+
+    //Узлы Кронрода на [-1, 1] (по убыванию, последний — 0); нечётные индексы — узлы Гаусса
+    private static final double[] KRONROD_NODES = {
+            0.991455371120812639206854697526329,
+            0.949107912342758524526189684047851,
+            0.864864423359769072789712788640926,
+            0.741531185599394439863864773280788,
+            0.586087235467691130294144845693013,
+            0.405845151377397166906606412076961,
+            0.207784955007898467600689403773245,
+            0.0
+    };
+    private static final double[] KRONROD_WEIGHTS = {
+            0.022935322010529224963732008058970,
+            0.063092092629978553290700663189204,
+            0.104790010322250183839876322541518,
+            0.140653259715525918745189590510238,
+            0.169004726639267902826583426598550,
+            0.190350578064785409913256402421014,
+            0.204432940075298892414161999234649,
+            0.209482141084727828012999174891714
+    };
+    //веса Гаусса для узлов KRONROD_NODES[1], [3], [5], [7]
+    private static final double[] GAUSS_WEIGHTS = {
+            0.129484966168869693270611432679082,
+            0.279705391489276667901467771423780,
+            0.381830050505118944950369775488975,
+            0.417959183673469387755102040816327
+    };
+    private static final int POINTS = 2 * KRONROD_NODES.length - 1;
+
+    private final MathFunction func;
+    private final double a, b;
+    private final double absTolerance, relTolerance;
+
+    //для подзадач: уже посчитанная оценка на [a, b], допуск на единицу длины и глубина
+    private final Estimate panel;
+    private final double toleranceDensity;
+    private final int depth;
+
+    public AdaptiveIntegral(MathFunction func, double a, double b, double absTolerance, double relTolerance) {
+        if (!(absTolerance >= 0) || !(relTolerance >= 0) || (absTolerance == 0 && relTolerance == 0)) {
+            throw new IllegalArgumentException("Допуск должен быть неотрицательным и хотя бы один — положительным");
+        }
+        this.func = func;
+        this.a = a;
+        this.b = b;
+        this.absTolerance = absTolerance;
+        this.relTolerance = relTolerance;
+        this.panel = null;
+        this.toleranceDensity = 0;
+        this.depth = 0;
+    }
+
+    private AdaptiveIntegral(MathFunction func, double a, double b, Estimate panel, double toleranceDensity, int depth) {
+        this.func = func;
+        this.a = a;
+        this.b = b;
+        this.absTolerance = 0;
+        this.relTolerance = 0;
+        this.panel = panel;
+        this.toleranceDensity = toleranceDensity;
+        this.depth = depth;
+    }
+
+    @Override
+    protected Estimate compute() {
+        return panel == null ? computeRoot() : refine();
+    }
+
+    //Грубая оценка на равных кусках задаёт масштаб для относительного допуска,
+    //затем каждый кусок уточняется независимо
+    private Estimate computeRoot() {
+        double width = (b - a) / INITIAL_PANELS;
+        Estimate[] panels = new Estimate[INITIAL_PANELS];
+        double total = 0;
+        for (int i = 0; i < INITIAL_PANELS; i++) {
+            double left = a + i * width;
+            double right = i == INITIAL_PANELS - 1 ? b : left + width;
+            panels[i] = checkFinite(kronrod(func, left, right), left, right);
+            total += panels[i].value();
+        }
+
+        double tolerance = Math.max(absTolerance, relTolerance * Math.abs(total));
+        double density = tolerance / (b - a);
+
+        AdaptiveIntegral[] tasks = new AdaptiveIntegral[INITIAL_PANELS];
+        for (int i = 0; i < INITIAL_PANELS; i++) {
+            double left = a + i * width;
+            double right = i == INITIAL_PANELS - 1 ? b : left + width;
+            tasks[i] = new AdaptiveIntegral(func, left, right, panels[i], density, 1);
+        }
+        invokeAll(tasks);
+
+        Estimate result = tasks[0].join();
+        for (int i = 1; i < INITIAL_PANELS; i++) {
+            result = result.plus(tasks[i].join());
+        }
+        return result;
+    }
+
+    private Estimate refine() {
+        if (panel.error() <= toleranceDensity * (b - a)) {
+            return panel;
+        }
+        double mid = a + (b - a) / 2.0;
+        if (depth >= MAX_DEPTH || !(mid > a && mid < b)) {
+            //дальше делить нельзя (особенность) — оценка ошибки останется больше допуска
+            return panel;
+        }
+
+        AdaptiveIntegral left = new AdaptiveIntegral(func, a, mid,
+                checkFinite(kronrod(func, a, mid), a, mid), toleranceDensity, depth + 1);
+        AdaptiveIntegral right = new AdaptiveIntegral(func, mid, b,
+                checkFinite(kronrod(func, mid, b), mid, b), toleranceDensity, depth + 1);
+        Estimate rightResult;
+        Estimate leftResult;
+        if (getSurplusQueuedTaskCount() <= SURPLUS_TASKS) {
+            left.fork();
+            rightResult = right.refine();
+            leftResult = left.join();
+        } else {
+            leftResult = left.refine();
+            rightResult = right.refine();
+        }
+
+        //вычисления на этом уровне (2 x 15) тоже учитываются
+        Estimate sum = leftResult.plus(rightResult);
+        return new Estimate(sum.value(), sum.error(), sum.evaluations() + panel.evaluations());
+    }
+
+    private static Estimate checkFinite(Estimate estimate, double a, double b) {
+        if (!Double.isFinite(estimate.value()) || !Double.isFinite(estimate.error())) {
+            throw new ArithmeticException("Функция не определена или бесконечна на [" + a + ", " + b + "]");
+        }
+        return estimate;
+    }
+
+    //Правило G7-K15 на [a, b]: 15 точек вычисляются одним вызовом applyAll
+    static Estimate kronrod(MathFunction func, double a, double b) {
+        double center = a + (b - a) / 2.0;
+        double halfLength = (b - a) / 2.0;
+
+        double[] xs = new double[POINTS];
+        double[] ys = new double[POINTS];
+        int last = KRONROD_NODES.length - 1;
+        for (int i = 0; i < last; i++) {
+            xs[2 * i] = center - halfLength * KRONROD_NODES[i];
+            xs[2 * i + 1] = center + halfLength * KRONROD_NODES[i];
+        }
+        xs[POINTS - 1] = center;
+        func.applyAll(xs, ys);
+
+        double kronrod = KRONROD_WEIGHTS[last] * ys[POINTS - 1];
+        double gauss = GAUSS_WEIGHTS[GAUSS_WEIGHTS.length - 1] * ys[POINTS - 1];
+        for (int i = 0; i < last; i++) {
+            double pair = ys[2 * i] + ys[2 * i + 1];
+            kronrod += KRONROD_WEIGHTS[i] * pair;
+            if (i % 2 == 1) {
+                gauss += GAUSS_WEIGHTS[i / 2] * pair;
+            }
+        }
+        kronrod *= halfLength;
+        gauss *= halfLength;
+        return new Estimate(kronrod, Math.abs(kronrod - gauss), POINTS);
+    }
+}
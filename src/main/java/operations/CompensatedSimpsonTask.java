@@ -0,0 +1,117 @@
+package operations;
+
+import functions.MathFunction;
+
+import java.util.concurrent.RecursiveAction;
+
+//Формула Симпсона на общей сетке x_i = a + i * h, i = 0..n, разбитой на диапазоны индексов.
+//Результат каждой задачи хранится в примитивных полях (без упаковки в Double),
+//размер листа вычисляется один раз по параллелизму пула и не уменьшается при делении,
+//индексы — long, так что n может быть порядка 10^10 и больше.
+//Суммирование — с компенсацией (Неймайер), поэтому порядок сложения листов
+//почти не влияет на результат и параллельный ответ совпадает с последовательным
+public class CompensatedSimpsonTask extends RecursiveAction {
+    private static final int BATCH_SIZE = 1024;//сколько точек вычисляется одним вызовом applyAll
+    private static final long MIN_LEAF_POINTS = 1 << 14;//меньше — накладные расходы задачи заметнее работы
+    private static final int TASKS_PER_THREAD = 8;//запас задач на поток для балансировки кражей работы
+
+    private final MathFunction func;
+    private final double a, b, h;
+    private final long n; //чётное число разбиений
+    private final long from, to; //диапазон индексов точек [from, to)
+    private final long leafPoints;
+
+    private double sum;
+    private double compensation;
+
+    public CompensatedSimpsonTask(MathFunction func, double a, double b, long n, int parallelism) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("n должно быть положительным");
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism должно быть положительным");
+        }
+        this.func = func;
+        this.a = a;
+        this.b = b;
+        this.n = (n % 2 == 0) ? n : n + 1;
+        this.h = (b - a) / this.n;
+        this.from = 0;
+        this.to = this.n + 1;
+        this.leafPoints = Math.max(MIN_LEAF_POINTS, (this.n + 1) / ((long) parallelism * TASKS_PER_THREAD));
+    }
+
+    private CompensatedSimpsonTask(CompensatedSimpsonTask parent, long from, long to) {
+        this.func = parent.func;
+        this.a = parent.a;
+        this.b = parent.b;
+        this.h = parent.h;
+        this.n = parent.n;
+        this.from = from;
+        this.to = to;
+        this.leafPoints = parent.leafPoints;
+    }
+
+    //Значение интеграла; доступно после выполнения задачи
+    public double getResult() {
+        return (sum + compensation) * h / 3.0;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= leafPoints) {
+            computeLeaf();
+            return;
+        }
+
+        long mid = (from + to) >>> 1;
+        CompensatedSimpsonTask left = new CompensatedSimpsonTask(this, from, mid);
+        CompensatedSimpsonTask right = new CompensatedSimpsonTask(this, mid, to);
+        left.fork();
+        right.compute();
+        left.join();
+
+        add(left.sum);
+        add(right.sum);
+        compensation += left.compensation + right.compensation;
+    }
+
+    private void computeLeaf() {
+        double[] xs = new double[(int) Math.min(BATCH_SIZE, to - from)];
+        double[] ys = new double[xs.length];
+        for (long start = from; start < to; start += BATCH_SIZE) {
+            int size = (int) Math.min(BATCH_SIZE, to - start);
+            if (size != xs.length) {//последняя неполная пачка
+                xs = new double[size];
+                ys = new double[size];
+            }
+            for (int k = 0; k < size; k++) {
+                long i = start + k;
+                xs[k] = (i == n) ? b : a + i * h;
+            }
+            func.applyAll(xs, ys);
+            for (int k = 0; k < size; k++) {
+                add(weight(start + k) * ys[k]);
+            }
+        }
+    }
+
+    //веса Симпсона: 1 на концах, 4 в нечётных точках, 2 в чётных внутренних
+    private double weight(long i) {
+        if (i == 0 || i == n) {
+            return 1.0;
+        }
+        return (i % 2 == 0) ? 2.0 : 4.0;
+    }
+
+    //Суммирование Неймайера: потерянные младшие разряды копятся в compensation
+    private void add(double value) {
+        double t = sum + value;
+        if (Math.abs(sum) >= Math.abs(value)) {
+            compensation += (sum - t) + value;
+        } else {
+            compensation += (value - t) + sum;
+        }
+        sum = t;
+    }
+}
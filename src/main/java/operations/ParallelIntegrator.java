@@ -1,5 +1,6 @@
 package operations;
 import functions.MathFunction;
+import functions.TabulatedFunction;
 
 import java.util.concurrent.ForkJoinPool;
 
@@ -12,17 +13,24 @@ public class ParallelIntegrator {
             throw new IllegalArgumentException("n должно быть положительным");
         }
 
-        SimpsonIntegral task;
-        if (a > b) {
-            task = new SimpsonIntegral(func, b, a, n);
-            return -ForkJoinPool.commonPool().invoke(task);
-        } else {
-            task = new SimpsonIntegral(func, a, b, n);
-            return ForkJoinPool.commonPool().invoke(task);
-        }
+        return integrateSimpson(func, a, b, n, ForkJoinPool.commonPool());
     }
 
-    public record IntegrationResult(double result, long duration) {} //создает неизменяемый объект с геттерами, equals(), hashCode() и toString()
+    //Симпсон на общей сетке с компенсированным суммированием; размер листа задаётся параллелизмом пула
+    private static double integrateSimpson(MathFunction func, double a, double b, long n, ForkJoinPool pool) {
+        CompensatedSimpsonTask task = a > b
+                ? new CompensatedSimpsonTask(func, b, a, n, pool.getParallelism())
+                : new CompensatedSimpsonTask(func, a, b, n, pool.getParallelism());
+        pool.invoke(task);
+        return a > b ? -task.getResult() : task.getResult();
+    }
+
+    //errorEstimate — оценка абсолютной ошибки (NaN, если метод её не даёт), evaluations — число вычислений функции
+    public record IntegrationResult(double result, long duration, double errorEstimate, long evaluations) { //создает неизменяемый объект с геттерами, equals(), hashCode() и toString()
+        public IntegrationResult(double result, long duration) {
+            this(result, duration, Double.NaN, 0L);
+        }
+    }
 
     public static IntegrationResult integrateWithFixedPool(MathFunction func, double a, double b, long n, int parallelism) {
         if (a == b) {
@@ -38,22 +46,62 @@ public class ParallelIntegrator {
         long startTime = System.nanoTime();
 
         try (ForkJoinPool customPool = new ForkJoinPool(parallelism)) {
-            SimpsonIntegral task;
-            double result;
-
-            if (a > b) {
-                task = new SimpsonIntegral(func, b, a, n);
-                result = -customPool.invoke(task);
-            } else {
-                task = new SimpsonIntegral(func, a, b, n);
-                result = customPool.invoke(task);
-            }
+            double result = integrateSimpson(func, a, b, n, customPool);
 
             long endTime = System.nanoTime();
             long duration = endTime - startTime;
 
-            return new IntegrationResult(result, duration);
+            //Симпсон с фиксированным n ошибку не оценивает; n округляется вверх до чётного
+            long evaluations = (n % 2 == 0 ? n : n + 1) + 1;
+            return new IntegrationResult(result, duration, Double.NaN, evaluations);
         }
     }
 
+    //Адаптивное интегрирование в общем пуле: цель |ошибка| <= max(absTolerance, relTolerance * |результат|).
+    //Если у функции особенность и точность недостижима, errorEstimate в результате будет больше допуска
+    public static IntegrationResult integrateAdaptive(MathFunction func, double a, double b,
+                                                      double absTolerance, double relTolerance) {
+        return integrateAdaptive(func, a, b, absTolerance, relTolerance, ForkJoinPool.commonPool());
+    }
+
+    public static IntegrationResult integrateAdaptiveWithFixedPool(MathFunction func, double a, double b,
+                                                                   double absTolerance, double relTolerance,
+                                                                   int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism должно быть положительным");
+        }
+        try (ForkJoinPool customPool = new ForkJoinPool(parallelism)) {
+            return integrateAdaptive(func, a, b, absTolerance, relTolerance, customPool);
+        }
+    }
+
+    private static IntegrationResult integrateAdaptive(MathFunction func, double a, double b,
+                                                       double absTolerance, double relTolerance,
+                                                       ForkJoinPool pool) {
+        long startTime = System.nanoTime();
+        AdaptiveIntegral task = a > b
+                ? new AdaptiveIntegral(func, b, a, absTolerance, relTolerance)
+                : new AdaptiveIntegral(func, a, b, absTolerance, relTolerance);
+        if (a == b) {
+            return new IntegrationResult(0.0, 0L, 0.0, 0L);
+        }
+
+        AdaptiveIntegral.Estimate estimate = pool.invoke(task);
+        double result = a > b ? -estimate.value() : estimate.value();
+        return new IntegrationResult(result, System.nanoTime() - startTime, estimate.error(), estimate.evaluations());
+    }
+
+    //Интеграл табулированной функции по её узлам правилом трапеций — точный для её кусочно-линейной интерполяции
+    public static double integrateTabulated(TabulatedFunction function, double a, double b) {
+        return integrateTabulated(function, a, b, TabulatedIntegral.Rule.TRAPEZOID);
+    }
+
+    public static double integrateTabulated(TabulatedFunction function, double a, double b, TabulatedIntegral.Rule rule) {
+        TabulatedIntegral task = new TabulatedIntegral(function, a, b, rule);
+        if (a == b) {
+            return 0;
+        }
+        ForkJoinPool.commonPool().invoke(task);
+        return task.getResult();
+    }
 }
@@ -9,6 +9,7 @@ public class SimpsonIntegral extends RecursiveTask<Double> {
     private final double a, b;
     private final long n; //должно быть чётным
     private final long THRESHOLD;//порог для переключения на параллельное вычисление
+    private static final int BATCH_SIZE = 1024;//сколько точек вычисляется одним вызовом applyAll
 
     public SimpsonIntegral(MathFunction func, double a, double b, long n) {
         this.func = func;
@@ -42,9 +43,23 @@ public class SimpsonIntegral extends RecursiveTask<Double> {
         double h = (b - a) / n;//шаг разбиение
         double sum = func.apply(a) + func.apply(b);//начальное и конечное значение
 
-        for (int i = 1; i < n; i++) {
-            double x = a + i * h;
-            sum += (i % 2 == 0) ? 2.0 * func.apply(x) : 4.0 * func.apply(x);
+        //внутренние точки 1..n-1 вычисляются пачками через applyAll
+        double[] xs = new double[(int) Math.min(BATCH_SIZE, n - 1)];
+        double[] ys = new double[xs.length];
+        for (long start = 1; start < n; start += BATCH_SIZE) {
+            int size = (int) Math.min(BATCH_SIZE, n - start);
+            if (size != xs.length) {//последняя неполная пачка
+                xs = new double[size];
+                ys = new double[size];
+            }
+            for (int k = 0; k < size; k++) {
+                xs[k] = a + (start + k) * h;
+            }
+            func.applyAll(xs, ys);
+            for (int k = 0; k < size; k++) {
+                long i = start + k;
+                sum += (i % 2 == 0) ? 2.0 * ys[k] : 4.0 * ys[k];
+            }
         }
         return sum * h / 3.0;
     }
@@ -0,0 +1,64 @@
+package operations;
+
+import functions.TabulatedFunction;
+
+import java.util.RandomAccess;
+
+//Столбцы x и y табулированной функции для параллельного чтения по индексу.
+//Таблицы с произвольным доступом (RandomAccess) читаются напрямую, остальные
+//(например, списки, у которых чтение по индексу сдвигает общий курсор) копируются одним проходом
+final class TabulatedColumns {
+    private final TabulatedFunction function;
+    private final double[] xs, ys;
+    private final int count;
+
+    TabulatedColumns(TabulatedFunction function) {
+        this.count = function.getCount();
+        if (function instanceof RandomAccess) {
+            this.function = function;
+            this.xs = null;
+            this.ys = null;
+        } else {
+            this.function = null;
+            this.xs = new double[count];
+            this.ys = new double[count];
+            fill(function, xs, ys);
+        }
+    }
+
+    private TabulatedColumns(double[] xs, double[] ys) {
+        this.function = null;
+        this.xs = xs;
+        this.ys = ys;
+        this.count = xs.length;
+    }
+
+    //Копия точек независимо от типа таблицы (например, снятая под блокировкой)
+    static TabulatedColumns copyOf(TabulatedFunction function) {
+        double[] xs = new double[function.getCount()];
+        double[] ys = new double[xs.length];
+        fill(function, xs, ys);
+        return new TabulatedColumns(xs, ys);
+    }
+
+    private static void fill(TabulatedFunction function, double[] xs, double[] ys) {
+        int[] i = {0};
+        function.forEachPoint((x, y) -> {
+            xs[i[0]] = x;
+            ys[i[0]] = y;
+            i[0]++;
+        });
+    }
+
+    int count() {
+        return count;
+    }
+
+    double x(int index) {
+        return xs != null ? xs[index] : function.getX(index);
+    }
+
+    double y(int index) {
+        return ys != null ? ys[index] : function.getY(index);
+    }
+}
@@ -2,9 +2,13 @@ package operations;
 
 import concurrent.SynchronizedTabulatedFunction;
 import functions.TabulatedFunction;
-import functions.Point;
+import functions.UniformTabulatedFunction;
 import functions.factory.TabulatedFunctionFactory;
 import functions.factory.ArrayTabulatedFunctionFactory;
+import functions.factory.UniformTabulatedFunctionFactory;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 
 public class TabulatedDifferentialOperator implements DifferentialOperator<TabulatedFunction> {
@@ -32,33 +36,282 @@ public class TabulatedDifferentialOperator implements DifferentialOperator<Tabul
 
     @Override
     public TabulatedFunction derive(TabulatedFunction function) {
-        Point[] points = TabulatedFunctionOperationService.asPoints(function);
-        int count = points.length;
+        return derive(function, 1, false)[0];
+    }
+
+    //Производная порядка order: первая производная, применённая order раз.
+    //Для UniformTabulatedFunction с фабрикой UniformTabulatedFunctionFactory результат
+    //побитово совпадает с derive, вызванным order раз
+    public TabulatedFunction derive(TabulatedFunction function, int order) {
+        return derive(function, order, false)[order - 1];
+    }
+
+    //Производные порядков 1..maxOrder; элемент [k - 1] — производная порядка k
+    public TabulatedFunction[] deriveAll(TabulatedFunction function, int maxOrder) {
+        return derive(function, maxOrder, true);
+    }
+
+    //Все порядки считаются за один проход по точкам функции: каждый порядок — ступень конвейера,
+    //которая держит три последних значения предыдущего порядка и отдаёт свою производную,
+    //как только для неё есть соседи справа. Промежуточные таблицы не создаются
+    private TabulatedFunction[] derive(TabulatedFunction function, int maxOrder, boolean keepAll) {
+        if (function == null) {
+            throw new IllegalArgumentException("TabulatedFunction cannot be null");
+        }
+        if (maxOrder < 1) {
+            throw new IllegalArgumentException("Порядок производной должен быть положительным");
+        }
+        if (function instanceof UniformTabulatedFunction uniform) {
+            return deriveUniform(uniform, maxOrder, keepAll);
+        }
+        int count = function.getCount();
+
+        double[] xValues = new double[count];
+        StencilPipeline pipeline = new StencilPipeline(xValues, maxOrder, keepAll);
+        int[] index = {0};
+        function.forEachPoint((pointX, pointY) -> {
+            xValues[index[0]] = pointX;
+            pipeline.accept(0, index[0], pointY);
+            index[0]++;
+        });
+        pipeline.finish();
+
+        TabulatedFunction[] result = new TabulatedFunction[maxOrder];
+        for (int order = 1; order <= maxOrder; order++) {
+            double[] yValues = pipeline.values(order);
+            if (yValues != null) {
+                result[order - 1] = factory.create(order == maxOrder ? xValues : xValues.clone(), yValues);
+            }
+        }
+        return result;
+    }
+
+    //Трёхточечная формула первой производной на неравномерной сетке (второй порядок точности);
+    //на равномерной сетке совпадает с (y[i+1] - y[i-1]) / 2h и односторонними формулами на концах
+    private static final class StencilPipeline {
+        private final double[] x;
+        private final int count;
+        private final int maxOrder;
+        private final double[][] window; //window[order][i % 3] — значение порядка order в точке i
+        private final double[][] values; //сохраняемые результаты, null для невостребованных порядков
+
+        StencilPipeline(double[] x, int maxOrder, boolean keepAll) {
+            this.x = x;
+            this.count = x.length;
+            this.maxOrder = maxOrder;
+            this.window = new double[maxOrder][3];
+            this.values = new double[maxOrder + 1][];
+            for (int order = 1; order <= maxOrder; order++) {
+                if (keepAll || order == maxOrder) {
+                    values[order] = new double[count];
+                }
+            }
+        }
+
+        double[] values(int order) {
+            return values[order];
+        }
+
+        //значение порядка order в точке i; точки каждого порядка приходят по возрастанию i
+        void accept(int order, int i, double value) {
+            if (values[order] != null) {
+                values[order][i] = value;
+            }
+            if (order == maxOrder) {
+                return;
+            }
+            double[] w = window[order];
+            w[i % 3] = value;
+            if (i == 2) {
+                accept(order + 1, 0, left(w));
+            }
+            if (i >= 2) {
+                accept(order + 1, i - 1, inner(w, i - 1));
+            }
+        }
+
+        //после последней точки каждая ступень по очереди отдаёт правый конец
+        void finish() {
+            for (int order = 0; order < maxOrder; order++) {
+                double[] w = window[order];
+                if (count == 2) {
+                    double deriv = (w[1] - w[0]) / (x[1] - x[0]);
+                    accept(order + 1, 0, deriv);
+                    accept(order + 1, 1, deriv);
+                } else {
+                    accept(order + 1, count - 1, right(w));
+                }
+            }
+        }
+
+        private double left(double[] w) {
+            return leftStencil(x[0], x[1], x[2], w[0], w[1], w[2]);
+        }
+
+        private double inner(double[] w, int i) {
+            return innerStencil(x[i - 1], x[i], x[i + 1], w[(i - 1) % 3], w[i % 3], w[(i + 1) % 3]);
+        }
+
+        private double right(double[] w) {
+            int i = count - 1;
+            return rightStencil(x[i - 2], x[i - 1], x[i], w[(i - 2) % 3], w[(i - 1) % 3], w[i % 3]);
+        }
+    }
+
+    //Трёхточечные формулы по точкам (x0, y0), (x1, y1), (x2, y2): производная в x0, x1 и x2 соответственно
+    private static double leftStencil(double x0, double x1, double x2, double y0, double y1, double y2) {
+        double h0 = x1 - x0;
+        double h1 = x2 - x1;
+        return -(2 * h0 + h1) / (h0 * (h0 + h1)) * y0
+                + (h0 + h1) / (h0 * h1) * y1
+                - h0 / (h1 * (h0 + h1)) * y2;
+    }
+
+    private static double innerStencil(double x0, double x1, double x2, double y0, double y1, double y2) {
+        double h0 = x1 - x0;
+        double h1 = x2 - x1;
+        return -h1 / (h0 * (h0 + h1)) * y0
+                + (h1 - h0) / (h0 * h1) * y1
+                + h0 / (h1 * (h0 + h1)) * y2;
+    }
+
+    private static double rightStencil(double x0, double x1, double x2, double y0, double y1, double y2) {
+        double h0 = x1 - x0;
+        double h1 = x2 - x1;
+        return h1 / (h0 * (h0 + h1)) * y0
+                - (h0 + h1) / (h0 * h1) * y1
+                + (2 * h1 + h0) / (h1 * (h0 + h1)) * y2;
+    }
+
+    //Параллельное дифференцирование: диапазон точек делится между задачами ForkJoin,
+    //каждая пишет производную прямо в общие массивы результата
+    public TabulatedFunction deriveParallel(TabulatedFunction function) {
+        if (function == null) {
+            throw new IllegalArgumentException("TabulatedFunction cannot be null");
+        }
+        return deriveParallel(new TabulatedColumns(function));
+    }
+
+    //Как deriveParallel, но функция блокируется только на время копирования точек:
+    //сами вычисления идут по копии, и писатели не ждут всё дифференцирование
+    public TabulatedFunction deriveSynchronouslyParallel(TabulatedFunction function) {
+        if (function == null) {
+            throw new IllegalArgumentException("Функция не может быть null");
+        }
+
+        SynchronizedTabulatedFunction syncFunction;
+        if (function instanceof SynchronizedTabulatedFunction) {
+            syncFunction = (SynchronizedTabulatedFunction) function;
+        } else {
+            syncFunction = new SynchronizedTabulatedFunction(function);
+        }
 
+        TabulatedColumns snapshot = syncFunction.doSynchronously(TabulatedColumns::copyOf);
+        return deriveParallel(snapshot);
+    }
+
+    private TabulatedFunction deriveParallel(TabulatedColumns columns) {
+        int count = columns.count();
         double[] xValues = new double[count];
         double[] yValues = new double[count];
+        ForkJoinPool.commonPool().invoke(new StencilTask(columns, xValues, yValues, 0, count));
+        return factory.create(xValues, yValues);
+    }
 
-        for (int i = 0; i < count; i++) {
-            xValues[i] = points[i].x;
+    //Задача над точками [from, to). Соседи на границах куска (i = from - 1 и i = to)
+    //читаются из общих столбцов источника, поэтому куски не обмениваются данными
+    private static final class StencilTask extends RecursiveAction {
+        private static final int CHUNK_SIZE = 1 << 14;
+
+        private final TabulatedColumns columns;
+        private final double[] xValues, yValues;
+        private final int from, to;
+
+        StencilTask(TabulatedColumns columns, double[] xValues, double[] yValues, int from, int to) {
+            this.columns = columns;
+            this.xValues = xValues;
+            this.yValues = yValues;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                for (int i = from; i < to; i++) {
+                    xValues[i] = columns.x(i);
+                    yValues[i] = derivativeAt(columns, i);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            StencilTask left = new StencilTask(columns, xValues, yValues, from, mid);
+            StencilTask right = new StencilTask(columns, xValues, yValues, mid, to);
+            left.fork();
+            right.compute();
+            left.join();
+        }
+
+        private static double derivativeAt(TabulatedColumns c, int i) {
+            int last = c.count() - 1;
+            if (last == 1) {
+                return (c.y(1) - c.y(0)) / (c.x(1) - c.x(0));
+            }
+            if (i == 0) {
+                return leftStencil(c.x(0), c.x(1), c.x(2), c.y(0), c.y(1), c.y(2));
+            }
+            if (i == last) {
+                return rightStencil(c.x(i - 2), c.x(i - 1), c.x(i), c.y(i - 2), c.y(i - 1), c.y(i));
+            }
+            return innerStencil(c.x(i - 1), c.x(i), c.x(i + 1), c.y(i - 1), c.y(i), c.y(i + 1));
+        }
+    }
+
+    //Быстрый путь для равномерной сетки: шаг известен точно, значения берутся напрямую без Point.
+    //Каждый порядок — те же разностные формулы по значениям предыдущего, сетка не пересобирается
+    private TabulatedFunction[] deriveUniform(UniformTabulatedFunction function, int maxOrder, boolean keepAll) {
+        double h = function.getStep();
+        double[] y = function.getYValues();
+        TabulatedFunction[] result = new TabulatedFunction[maxOrder];
+        for (int order = 1; order <= maxOrder; order++) {
+            y = uniformDerivative(y, h);
+            if (keepAll || order == maxOrder) {
+                result[order - 1] = createOnGrid(function, y);
+            }
         }
+        return result;
+    }
+
+    private static double[] uniformDerivative(double[] y, double h) {
+        int count = y.length;
+        double[] yValues = new double[count];
 
         if (count == 2) {
-            double h = points[1].x - points[0].x;
-            double deriv = (points[1].y - points[0].y) / h;
+            double deriv = (y[1] - y[0]) / h;
             yValues[0] = deriv;
             yValues[1] = deriv;
         } else {
-            double h = points[1].x - points[0].x;
-
-            yValues[0] = (-3 * points[0].y + 4 * points[1].y - points[2].y) / (2 * h);
+            yValues[0] = (-3 * y[0] + 4 * y[1] - y[2]) / (2 * h);
 
             for (int i = 1; i < count - 1; i++) {
-                yValues[i] = (points[i + 1].y - points[i - 1].y) / (2 * h);
+                yValues[i] = (y[i + 1] - y[i - 1]) / (2 * h);
             }
 
-            yValues[count - 1] = (3 * points[count - 1].y - 4 * points[count - 2].y + points[count - 3].y) / (2 * h);
+            yValues[count - 1] = (3 * y[count - 1] - 4 * y[count - 2] + y[count - 3]) / (2 * h);
         }
+        return yValues;
+    }
 
+    //Таблица значений yValues на сетке function: с равномерной фабрикой — без массива x
+    private TabulatedFunction createOnGrid(UniformTabulatedFunction function, double[] yValues) {
+        if (factory instanceof UniformTabulatedFunctionFactory uniformFactory) {
+            return uniformFactory.create(function.getXFrom(), function.getStep(), yValues);
+        }
+        int count = function.getCount();
+        double[] xValues = new double[count];
+        for (int i = 0; i < count; i++) {
+            xValues[i] = function.getX(i);
+        }
         return factory.create(xValues, yValues);
     }
 
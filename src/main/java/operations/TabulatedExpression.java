@@ -0,0 +1,181 @@
+package operations;
+
+import exception.InconsistentFunctionsException;
+import functions.TabulatedFunction;
+import functions.factory.TabulatedFunctionFactory;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+//Отложенное выражение над табулированными функциями: add/subtract/multiply/divide только строят дерево,
+//промежуточные таблицы не создаются. materialize(factory) один раз проверяет операнды
+//(одинаковое число точек, совпадающие x) и считает всё выражение за один проход по общей сетке.
+//Выражение неизменяемое, одно поддерево можно использовать в нескольких выражениях
+public abstract class TabulatedExpression {
+
+    //коды операций в постфиксной записи; неотрицательные коды — номера операндов
+    private static final int ADD = -1;
+    private static final int SUBTRACT = -2;
+    private static final int MULTIPLY = -3;
+    private static final int DIVIDE = -4;
+
+    private TabulatedExpression() {
+    }
+
+    public static TabulatedExpression of(TabulatedFunction function) {
+        if (function == null) {
+            throw new IllegalArgumentException("TabulatedFunction cannot be null");
+        }
+        return new Operand(function);
+    }
+
+    public TabulatedExpression add(TabulatedExpression other) {
+        return new Operation(ADD, this, other);
+    }
+
+    public TabulatedExpression add(TabulatedFunction other) {
+        return add(of(other));
+    }
+
+    public TabulatedExpression subtract(TabulatedExpression other) {
+        return new Operation(SUBTRACT, this, other);
+    }
+
+    public TabulatedExpression subtract(TabulatedFunction other) {
+        return subtract(of(other));
+    }
+
+    public TabulatedExpression multiply(TabulatedExpression other) {
+        return new Operation(MULTIPLY, this, other);
+    }
+
+    public TabulatedExpression multiply(TabulatedFunction other) {
+        return multiply(of(other));
+    }
+
+    public TabulatedExpression divide(TabulatedExpression other) {
+        return new Operation(DIVIDE, this, other);
+    }
+
+    public TabulatedExpression divide(TabulatedFunction other) {
+        return divide(of(other));
+    }
+
+    //Вычисляет выражение и создаёт таблицу результата фабрикой
+    public TabulatedFunction materialize(TabulatedFunctionFactory factory) {
+        if (factory == null) {
+            throw new IllegalArgumentException("Factory cannot be null");
+        }
+
+        //операнды без повторов (одна и та же функция читается один раз) и программа в постфиксной записи
+        Map<TabulatedFunction, Integer> indices = new IdentityHashMap<>();
+        List<TabulatedFunction> operands = new ArrayList<>();
+        List<Integer> code = new ArrayList<>();
+        int depth = compile(indices, operands, code);
+
+        int count = operands.get(0).getCount();
+        for (TabulatedFunction operand : operands) {
+            if (operand.getCount() != count) {
+                throw new InconsistentFunctionsException(
+                        "Размеры не совпадают: " + count + " и " + operand.getCount());
+            }
+        }
+
+        TabulatedColumns[] columns = new TabulatedColumns[operands.size()];
+        for (int k = 0; k < columns.length; k++) {
+            columns[k] = new TabulatedColumns(operands.get(k));
+        }
+        int[] program = new int[code.size()];
+        for (int k = 0; k < program.length; k++) {
+            program[k] = code.get(k);
+        }
+
+        double[] xValues = new double[count];
+        double[] yValues = new double[count];
+        double[] stack = new double[depth];
+        for (int i = 0; i < count; i++) {
+            double x = columns[0].x(i);
+            for (int k = 1; k < columns.length; k++) {
+                if (columns[k].x(i) != x) {
+                    throw new InconsistentFunctionsException(
+                            "X не совпадают!");
+                }
+            }
+            xValues[i] = x;
+            yValues[i] = evaluate(program, columns, stack, i);
+        }
+        return factory.create(xValues, yValues);
+    }
+
+    //Значение выражения в точке i; stack вмещает максимальную глубину программы
+    private static double evaluate(int[] program, TabulatedColumns[] columns, double[] stack, int i) {
+        int top = 0;
+        for (int instruction : program) {
+            if (instruction >= 0) {
+                stack[top++] = columns[instruction].y(i);
+                continue;
+            }
+            double v = stack[--top];
+            double u = stack[top - 1];
+            stack[top - 1] = switch (instruction) {
+                case ADD -> u + v;
+                case SUBTRACT -> u - v;
+                case MULTIPLY -> u * v;
+                default -> {
+                    if (v == 0.0) {
+                        throw new ArithmeticException("Делить на ноль нельзя, айайай");
+                    }
+                    yield u / v;
+                }
+            };
+        }
+        return stack[0];
+    }
+
+    //Дописывает программу поддерева в code и возвращает нужную ему глубину стека
+    abstract int compile(Map<TabulatedFunction, Integer> indices, List<TabulatedFunction> operands, List<Integer> code);
+
+    private static final class Operand extends TabulatedExpression {
+        private final TabulatedFunction function;
+
+        Operand(TabulatedFunction function) {
+            this.function = function;
+        }
+
+        @Override
+        int compile(Map<TabulatedFunction, Integer> indices, List<TabulatedFunction> operands, List<Integer> code) {
+            Integer index = indices.get(function);
+            if (index == null) {
+                index = operands.size();
+                indices.put(function, index);
+                operands.add(function);
+            }
+            code.add(index);
+            return 1;
+        }
+    }
+
+    private static final class Operation extends TabulatedExpression {
+        private final int operation;
+        private final TabulatedExpression left, right;
+
+        Operation(int operation, TabulatedExpression left, TabulatedExpression right) {
+            if (right == null) {
+                throw new IllegalArgumentException("TabulatedExpression cannot be null");
+            }
+            this.operation = operation;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        int compile(Map<TabulatedFunction, Integer> indices, List<TabulatedFunction> operands, List<Integer> code) {
+            int leftDepth = left.compile(indices, operands, code);
+            int rightDepth = right.compile(indices, operands, code);
+            code.add(operation);
+            return Math.max(leftDepth, rightDepth + 1);
+        }
+    }
+}
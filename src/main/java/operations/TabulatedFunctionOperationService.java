@@ -2,7 +2,10 @@ package operations;
 
 import functions.TabulatedFunction;
 import functions.Point;
-import java.util.Iterator;
+import functions.UniformTabulatedFunction;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import functions.factory.*;
 import exception.*;
 
@@ -16,18 +19,17 @@ public class TabulatedFunctionOperationService {
         int count = tabulatedFunction.getCount();
         Point[] points = new Point[count];
 
-        int i = 0;
-        Iterator<Point> iterator = tabulatedFunction.iterator();
-        while (iterator.hasNext()) {
-            Point originalPoint = iterator.next();
-            points[i] = new Point(originalPoint.x, originalPoint.y);
-            i++;
-        }
+        int[] i = {0};
+        tabulatedFunction.forEachPoint((x, y) -> points[i[0]++] = new Point(x, y));
 
         return points;
     }
     private TabulatedFunctionFactory factory;
 
+    //начиная с такого числа точек операция считается параллельно по кускам индексов
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
     public TabulatedFunctionOperationService() {
         this.factory = new ArrayTabulatedFunctionFactory();
     }
@@ -51,6 +53,18 @@ public class TabulatedFunctionOperationService {
         this.factory = factory;
     }
 
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    //Integer.MAX_VALUE отключает параллельный режим
+    public void setParallelThreshold(int parallelThreshold) {
+        if (parallelThreshold <= 0) {
+            throw new IllegalArgumentException("Порог должен быть положительным");
+        }
+        this.parallelThreshold = parallelThreshold;
+    }
+
     @FunctionalInterface
     private interface BiOperation {
         double apply(double u, double v);
@@ -72,27 +86,111 @@ public class TabulatedFunctionOperationService {
             throw new InconsistentFunctionsException(
                     "Размеры не совпадают: "+ countA + " и"+ countB);
         }
-        Point[] pointsA = asPoints(a);
-        Point[] pointsB = asPoints(b);
-
+        if (a instanceof UniformTabulatedFunction uniformA && b instanceof UniformTabulatedFunction uniformB) {
+            return doUniformOperation(uniformA, uniformB, operation);
+        }
         double[] xValues = new double[countA];
         double[] yValues = new double[countA];
 
-        for (int i = 0; i < countA; i++) {
-            double xA = pointsA[i].x;
-            double xB = pointsB[i].x;
+        if (countA >= parallelThreshold) {
+            ForkJoinPool.commonPool().invoke(new ColumnOperationTask(
+                    new TabulatedColumns(a), new TabulatedColumns(b), operation, xValues, yValues, 0, countA));
+            return factory.create(xValues, yValues);
+        }
+
+        //первый проход копирует точки a, второй сверяет x с точками b и считает результат
+        int[] i = {0};
+        a.forEachPoint((x, y) -> {
+            xValues[i[0]] = x;
+            yValues[i[0]] = y;
+            i[0]++;
+        });
 
-            if (xA != xB) {
+        i[0] = 0;
+        b.forEachPoint((x, y) -> {
+            if (xValues[i[0]] != x) {
                 throw new InconsistentFunctionsException(
                         "X не совпадают!");
             }
+            yValues[i[0]] = operation.apply(yValues[i[0]], y);
+            i[0]++;
+        });
+
+        return factory.create(xValues, yValues);
+    }
+
+    //Параллельная операция над столбцами: диапазон индексов делится пополам до кусков по CHUNK_SIZE,
+    //точки читаются прямо из таблиц (или их копий для списков), без Point
+    private static final class ColumnOperationTask extends RecursiveAction {
+        private static final int CHUNK_SIZE = 1 << 14;
+
+        private final TabulatedColumns a, b;
+        private final BiOperation operation;
+        private final double[] xValues, yValues;
+        private final int from, to;
+
+        ColumnOperationTask(TabulatedColumns a, TabulatedColumns b, BiOperation operation,
+                            double[] xValues, double[] yValues, int from, int to) {
+            this.a = a;
+            this.b = b;
+            this.operation = operation;
+            this.xValues = xValues;
+            this.yValues = yValues;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                for (int i = from; i < to; i++) {
+                    double xA = a.x(i);
+                    if (xA != b.x(i)) {
+                        throw new InconsistentFunctionsException(
+                                "X не совпадают!");
+                    }
+                    xValues[i] = xA;
+                    yValues[i] = operation.apply(a.y(i), b.y(i));
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            ColumnOperationTask left = new ColumnOperationTask(a, b, operation, xValues, yValues, from, mid);
+            ColumnOperationTask right = new ColumnOperationTask(a, b, operation, xValues, yValues, mid, to);
+            left.fork();
+            right.compute();
+            left.join();
+        }
+    }
+
+    //Быстрый путь для двух равномерных сеток: x совпадают, если совпадают параметры сетки,
+    //поэтому сравнивать точки и создавать Point не нужно
+    private TabulatedFunction doUniformOperation(
+            UniformTabulatedFunction a,
+            UniformTabulatedFunction b,
+            BiOperation operation
+    ) {
+        if (!a.hasSameGrid(b)) {
+            throw new InconsistentFunctionsException(
+                    "X не совпадают!");
+        }
 
-            xValues[i] = xA;
-            yValues[i] = operation.apply(pointsA[i].y, pointsB[i].y);
+        int count = a.getCount();
+        double[] yValues = new double[count];
+        for (int i = 0; i < count; i++) {
+            yValues[i] = operation.apply(a.getY(i), b.getY(i));
         }
 
+        if (factory instanceof UniformTabulatedFunctionFactory uniformFactory) {
+            return uniformFactory.create(a.getXFrom(), a.getStep(), yValues);
+        }
+        double[] xValues = new double[count];
+        for (int i = 0; i < count; i++) {
+            xValues[i] = a.getX(i);
+        }
         return factory.create(xValues, yValues);
     }
+
     public TabulatedFunction add(TabulatedFunction a, TabulatedFunction b) {
         return doOperation(a, b, (u, v) -> u + v);
     }
@@ -114,4 +212,171 @@ public class TabulatedFunctionOperationService {
         });
     }
 
+    //Выравнивание сеток для операций над функциями с разными x:
+    //UNION — все узлы обеих функций (вне своей области операнд экстраполируется),
+    //INTERSECTION — узлы обеих функций на общей части областей определения
+    public enum Alignment {
+        UNION,
+        INTERSECTION
+    }
+
+    public TabulatedFunction add(TabulatedFunction a, TabulatedFunction b, Alignment alignment) {
+        return doAlignedOperation(a, b, alignment, null, (u, v) -> u + v);
+    }
+
+    public TabulatedFunction subtract(TabulatedFunction a, TabulatedFunction b, Alignment alignment) {
+        return doAlignedOperation(a, b, alignment, null, (u, v) -> u - v);
+    }
+
+    public TabulatedFunction multiply(TabulatedFunction a, TabulatedFunction b, Alignment alignment) {
+        return doAlignedOperation(a, b, alignment, null, (u, v) -> u * v);
+    }
+
+    public TabulatedFunction divide(TabulatedFunction a, TabulatedFunction b, Alignment alignment) {
+        return doAlignedOperation(a, b, alignment, null, TabulatedFunctionOperationService::divideValues);
+    }
+
+    //Операции на заданной сетке: grid строго возрастает, значения вне области операнда экстраполируются
+    public TabulatedFunction add(TabulatedFunction a, TabulatedFunction b, double[] grid) {
+        return doAlignedOperation(a, b, null, grid, (u, v) -> u + v);
+    }
+
+    public TabulatedFunction subtract(TabulatedFunction a, TabulatedFunction b, double[] grid) {
+        return doAlignedOperation(a, b, null, grid, (u, v) -> u - v);
+    }
+
+    public TabulatedFunction multiply(TabulatedFunction a, TabulatedFunction b, double[] grid) {
+        return doAlignedOperation(a, b, null, grid, (u, v) -> u * v);
+    }
+
+    public TabulatedFunction divide(TabulatedFunction a, TabulatedFunction b, double[] grid) {
+        return doAlignedOperation(a, b, null, grid, TabulatedFunctionOperationService::divideValues);
+    }
+
+    private static double divideValues(double u, double v) {
+        if (v == 0.0) {
+            throw new ArithmeticException("Делить на ноль нельзя, айайай");
+        }
+        return u / v;
+    }
+
+    //Значения обеих функций на сетке считаются одним проходом слияния по их отсортированным x:
+    //O(n + m) вместо apply с поиском для каждой точки
+    private TabulatedFunction doAlignedOperation(
+            TabulatedFunction a,
+            TabulatedFunction b,
+            Alignment alignment,
+            double[] grid,
+            BiOperation operation
+    ) {
+        if (a == null || b == null) {
+            throw new IllegalArgumentException("TabulatedFunction cannot be null");
+        }
+        TabulatedColumns columnsA = new TabulatedColumns(a);
+        TabulatedColumns columnsB = new TabulatedColumns(b);
+
+        double[] xValues;
+        if (grid != null) {
+            checkGrid(grid);
+            xValues = grid.clone();
+        } else if (alignment == Alignment.UNION) {
+            xValues = mergeGrids(columnsA, columnsB, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+        } else if (alignment == Alignment.INTERSECTION) {
+            double low = Math.max(columnsA.x(0), columnsB.x(0));
+            double high = Math.min(columnsA.x(columnsA.count() - 1), columnsB.x(columnsB.count() - 1));
+            xValues = mergeGrids(columnsA, columnsB, low, high);
+            if (xValues.length < 2) {
+                throw new InconsistentFunctionsException(
+                        "Области определения функций пересекаются меньше чем в 2 точках");
+            }
+        } else {
+            throw new IllegalArgumentException("Выравнивание не может быть null");
+        }
+
+        Sweep sweepA = new Sweep(columnsA);
+        Sweep sweepB = new Sweep(columnsB);
+        double[] yValues = new double[xValues.length];
+        for (int i = 0; i < xValues.length; i++) {
+            yValues[i] = operation.apply(sweepA.valueAt(xValues[i]), sweepB.valueAt(xValues[i]));
+        }
+        return factory.create(xValues, yValues);
+    }
+
+    private static void checkGrid(double[] grid) {
+        if (grid.length < 2) {
+            throw new IllegalArgumentException("Сетка должна содержать как минимум 2 точки");
+        }
+        for (int i = 1; i < grid.length; i++) {
+            if (!(grid[i] > grid[i - 1])) {
+                throw new IllegalArgumentException("Сетка должна строго возрастать");
+            }
+        }
+    }
+
+    //Слияние двух возрастающих столбцов x без повторов, только значения из [low, high].
+    //x, совпадающие с точностью 1e-10 (как в indexOfX), считаются одной точкой
+    private static double[] mergeGrids(TabulatedColumns a, TabulatedColumns b, double low, double high) {
+        double[] merged = new double[a.count() + b.count()];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.count() || j < b.count()) {
+            double x;
+            if (i < a.count() && j < b.count() && Math.abs(a.x(i) - b.x(j)) < 1e-10) {
+                x = a.x(i++);
+                j++;
+            } else if (j >= b.count() || (i < a.count() && a.x(i) < b.x(j))) {
+                x = a.x(i++);
+            } else {
+                x = b.x(j++);
+            }
+            if (x > low - 1e-10 && x < high + 1e-10) {
+                merged[size++] = x;
+            }
+        }
+        return Arrays.copyOf(merged, size);
+    }
+
+    //Значения функции в неубывающей последовательности точек: индекс отрезка только растёт,
+    //интерполяция и экстраполяция — те же линейные формулы, что у apply,
+    //а точка в пределах 1e-10 от узла (как в indexOfX) получает значение узла
+    private static final class Sweep {
+        private final TabulatedColumns columns;
+        private final int last;
+        private int floor;
+
+        Sweep(TabulatedColumns columns) {
+            this.columns = columns;
+            this.last = columns.count() - 1;
+        }
+
+        double valueAt(double x) {
+            while (floor < last - 1 && columns.x(floor + 1) <= x) {
+                floor++;
+            }
+            double x1 = columns.x(floor);
+            double x2 = columns.x(floor + 1);
+            if (Math.abs(x - x1) < 1e-10) {
+                return columns.y(floor);
+            }
+            if (Math.abs(x - x2) < 1e-10) {
+                return columns.y(floor + 1);
+            }
+            double y1 = columns.y(floor);
+            return y1 + (columns.y(floor + 1) - y1) * (x - x1) / (x2 - x1);
+        }
+    }
+
+    //Отложенный режим: цепочка lazy(a).multiply(b).subtract(c) вычисляется одним проходом в materialize
+    public TabulatedExpression lazy(TabulatedFunction function) {
+        return TabulatedExpression.of(function);
+    }
+
+    public TabulatedFunction materialize(TabulatedExpression expression) {
+        if (expression == null) {
+            throw new IllegalArgumentException("TabulatedExpression cannot be null");
+        }
+        return expression.materialize(factory);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,176 @@
+package operations;
+
+import functions.TabulatedFunction;
+
+import java.util.concurrent.RecursiveAction;
+
+//Интеграл табулированной функции по её собственным узлам, без повторной дискретизации через apply.
+//Узлы интегрирования — граница a, все x таблицы строго внутри (a, b) и граница b; значения на границах
+//берутся из интерполяции (экстраполяции) функции. Между соседними узлами функция линейна,
+//поэтому правило трапеций даёт её точный интеграл. SIMPSON — парабола по тройкам узлов
+//на неравномерной сетке (для гладких данных), при нечётном числе отрезков последний — трапецией.
+//Диапазон отрезков делится на куски, которые считаются параллельно
+public class TabulatedIntegral extends RecursiveAction {
+
+    public enum Rule {
+        TRAPEZOID,
+        SIMPSON
+    }
+
+    //отрезков в одном куске: меньше — накладные расходы задачи сравнимы с работой
+    private static final int CHUNK_INTERVALS = 1 << 15;
+
+    private final Nodes nodes;
+    private final Rule rule;
+    private final int from, to; //отрезки [from, to) между узлами nodes
+    private final double sign;
+    private double result;
+
+    public TabulatedIntegral(TabulatedFunction function, double a, double b, Rule rule) {
+        if (function == null || rule == null) {
+            throw new IllegalArgumentException("Функция и правило не могут быть null");
+        }
+        if (Double.isNaN(a) || Double.isNaN(b)) {
+            throw new IllegalArgumentException("Границы интегрирования не могут быть NaN");
+        }
+        this.sign = a > b ? -1.0 : 1.0;
+        this.nodes = new Nodes(function, Math.min(a, b), Math.max(a, b));
+        this.rule = rule;
+        this.from = 0;
+        this.to = nodes.size - 1;
+    }
+
+    private TabulatedIntegral(TabulatedIntegral parent, int from, int to) {
+        this.nodes = parent.nodes;
+        this.rule = parent.rule;
+        this.sign = parent.sign;
+        this.from = from;
+        this.to = to;
+    }
+
+    //Значение интеграла; доступно после выполнения задачи
+    public double getResult() {
+        return sign * result;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= CHUNK_INTERVALS) {
+            result = rule == Rule.TRAPEZOID ? trapezoid(from, to) : simpson(from, to);
+            return;
+        }
+
+        int mid = from + (to - from) / 2;
+        if (rule == Rule.SIMPSON) {
+            mid &= ~1; //пары отрезков Симпсона не должны разрываться между кусками
+        }
+        TabulatedIntegral left = new TabulatedIntegral(this, from, mid);
+        TabulatedIntegral right = new TabulatedIntegral(this, mid, to);
+        left.fork();
+        right.compute();
+        left.join();
+        result = left.result + right.result;
+    }
+
+    private double trapezoid(int from, int to) {
+        double sum = 0;
+        double x0 = nodes.x(from);
+        double y0 = nodes.y(from);
+        for (int k = from; k < to; k++) {
+            double x1 = nodes.x(k + 1);
+            double y1 = nodes.y(k + 1);
+            sum += (x1 - x0) * (y0 + y1) / 2.0;
+            x0 = x1;
+            y0 = y1;
+        }
+        return sum;
+    }
+
+    //from всегда чётный, нечётный остаток бывает только у последнего куска
+    private double simpson(int from, int to) {
+        double sum = 0;
+        int k = from;
+        for (; k + 2 <= to; k += 2) {
+            double x0 = nodes.x(k), x1 = nodes.x(k + 1), x2 = nodes.x(k + 2);
+            double h0 = x1 - x0;
+            double h1 = x2 - x1;
+            sum += (h0 + h1) / 6.0 * ((2.0 - h1 / h0) * nodes.y(k)
+                    + (h0 + h1) * (h0 + h1) / (h0 * h1) * nodes.y(k + 1)
+                    + (2.0 - h0 / h1) * nodes.y(k + 2));
+        }
+        if (k < to) {
+            sum += trapezoid(k, to);
+        }
+        return sum;
+    }
+
+    //Узлы интегрирования: lo, x таблицы строго внутри (lo, hi), hi
+    private static final class Nodes {
+        private final TabulatedColumns columns;
+        private final double lo, hi, yLo, yHi;
+        private final int first; //индекс в таблице первого внутреннего x
+        private final int size;  //число узлов вместе с границами
+
+        Nodes(TabulatedFunction function, double lo, double hi) {
+            this.columns = new TabulatedColumns(function);
+            this.lo = lo;
+            this.hi = hi;
+            this.yLo = function.apply(lo);
+            this.yHi = function.apply(hi);
+
+            this.first = upperBound(lo);
+            int end = lowerBound(hi); //первый x >= hi
+            this.size = Math.max(0, end - first) + 2;
+        }
+
+        //первый индекс с x > value
+        private int upperBound(double value) {
+            int low = 0;
+            int high = columns.count();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (columns.x(mid) > value) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+
+        //первый индекс с x >= value
+        private int lowerBound(double value) {
+            int low = 0;
+            int high = columns.count();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (columns.x(mid) < value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        double x(int k) {
+            if (k == 0) {
+                return lo;
+            }
+            if (k == size - 1) {
+                return hi;
+            }
+            return columns.x(first + k - 1);
+        }
+
+        double y(int k) {
+            if (k == 0) {
+                return yLo;
+            }
+            if (k == size - 1) {
+                return yHi;
+            }
+            return columns.y(first + k - 1);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package operations;
+
+import functions.TabulatedFunction;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+//Все корни табулированной функции без производной: один проход по столбцам ищет смены знака,
+//корень на отрезке находится точно по линейной интерполяции между соседними точками.
+//Узлы с y == 0 — корни сами по себе (если функция равна нулю на целом отрезке, корнями считаются его концы).
+//Большие таблицы просматриваются параллельно кусками индексов
+public final class TabulatedRootFinder {
+
+    //начиная с такого числа точек поиск идёт параллельно
+    public static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private TabulatedRootFinder() {
+    }
+
+    //Корни по возрастанию
+    public static double[] findRoots(TabulatedFunction function) {
+        if (function == null) {
+            throw new IllegalArgumentException("TabulatedFunction cannot be null");
+        }
+        if (function.getCount() >= PARALLEL_THRESHOLD) {
+            TabulatedColumns columns = new TabulatedColumns(function);
+            return ForkJoinPool.commonPool().invoke(new ScanTask(columns, 0, columns.count()));
+        }
+
+        //последовательно — прямо из forEachPoint, без копии таблицы
+        Roots roots = new Roots();
+        double[] previous = {Double.NaN, Double.NaN};
+        function.forEachPoint((x, y) -> {
+            roots.addSegment(previous[0], previous[1], x, y);
+            previous[0] = x;
+            previous[1] = y;
+        });
+        return roots.toArray();
+    }
+
+    //Корень на отрезке [(x1, y1), (x2, y2)] и в его правом конце; левый конец учтён предыдущим отрезком
+    private static final class Roots {
+        private double[] values = new double[16];
+        private int size;
+
+        void addSegment(double x1, double y1, double x2, double y2) {
+            if ((y1 < 0 && y2 > 0) || (y1 > 0 && y2 < 0)) {
+                add(x1 - y1 * (x2 - x1) / (y2 - y1));
+            }
+            if (y2 == 0) {
+                add(x2);
+            }
+        }
+
+        private void add(double root) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size + (size >> 1));
+            }
+            values[size++] = root;
+        }
+
+        double[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    //Задача над точками [from, to): отрезок, начинающийся в последней точке куска,
+    //читает правого соседа из общих столбцов
+    private static final class ScanTask extends RecursiveTask<double[]> {
+        private static final int CHUNK_SIZE = 1 << 15;
+
+        private final TabulatedColumns columns;
+        private final int from, to;
+
+        ScanTask(TabulatedColumns columns, int from, int to) {
+            this.columns = columns;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected double[] compute() {
+            if (to - from <= CHUNK_SIZE) {
+                Roots roots = new Roots();
+                if (from == 0 && columns.y(0) == 0) {
+                    roots.add(columns.x(0));
+                }
+                int last = Math.min(to, columns.count() - 1);
+                for (int i = from; i < last; i++) {
+                    roots.addSegment(columns.x(i), columns.y(i), columns.x(i + 1), columns.y(i + 1));
+                }
+                return roots.toArray();
+            }
+            int mid = (from + to) >>> 1;
+            ScanTask left = new ScanTask(columns, from, mid);
+            ScanTask right = new ScanTask(columns, mid, to);
+            left.fork();
+            double[] rightRoots = right.compute();
+            double[] leftRoots = left.join();
+
+            double[] roots = Arrays.copyOf(leftRoots, leftRoots.length + rightRoots.length);
+            System.arraycopy(rightRoots, 0, roots, leftRoots.length, rightRoots.length);
+            return roots;
+        }
+    }
+}
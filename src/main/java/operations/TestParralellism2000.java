@@ -2,6 +2,7 @@ package operations;
 
 import functions.MathFunction;
 
+//Быстрая ручная проверка; воспроизводимые замеры — ParallelIntegratorBenchmark в профиле jmh
 public class TestParralellism2000 {
     private static final double NANOS_TO_MILLIS = 1_000_000.0;
 
@@ -9,7 +10,7 @@ public class TestParralellism2000 {
         MathFunction complexFunc = x -> (1.0 + x * x)/ (1.0 + x * x * x * x) ;
         double a = -500.0;
         double b = 500.0;
-        long n = -1;
+        long n = 10_000_000;
 
         int[] parallelismLevels = {1, 2, 4, 8, 16};
 
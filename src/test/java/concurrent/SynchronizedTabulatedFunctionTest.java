@@ -342,4 +342,20 @@ class SynchronizedTabulatedFunctionTest {
         assertEquals(5.0, syncFunc.getY(0), 1e-10);
         assertEquals(7.0, syncFunc.getY(1), 1e-10);
     }
+
+    @Test
+    @DisplayName("forEachPoint делегирует обход обёрнутой функции")
+    void testForEachPointDelegates() {
+        SynchronizedTabulatedFunction function = new SynchronizedTabulatedFunction(
+                new ArrayTabulatedFunction(new double[]{1.0, 2.0, 3.0}, new double[]{4.0, 5.0, 6.0}));
+        double[] sums = new double[2];
+
+        function.forEachPoint((x, y) -> {
+            sums[0] += x;
+            sums[1] += y;
+        });
+
+        assertEquals(6.0, sums[0], 0.0);
+        assertEquals(15.0, sums[1], 0.0);
+    }
 }
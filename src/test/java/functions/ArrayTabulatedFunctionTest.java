@@ -2,9 +2,11 @@ package functions;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Timeout;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
 import exception.ArrayIsNotSortedException;
 import exception.DifferentLengthOfArraysException;
 
@@ -1228,4 +1230,232 @@ public class ArrayTabulatedFunctionTest {
         }
     }
 
+    //Эталонный линейный поиск (прежняя реализация) для сравнения с бинарным
+    private static int linearIndexOfX(double[] xVal, double x) {
+        for (int i = 0; i < xVal.length; i++) {
+            if (Math.abs(xVal[i] - x) < 1e-10) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int linearFloorIndexOfX(double[] xVal, double x) {
+        for (int i = 0; i < xVal.length - 1; i++) {
+            if (x < xVal[i + 1]) {
+                return i;
+            }
+        }
+        return xVal.length - 1;
+    }
+
+    @Test
+    @DisplayName("Бинарный поиск indexOfX/floorIndexOfX/apply совпадает с линейным на большой неравномерной таблице")
+    public void testBinarySearchMatchesLinearScan() {
+        int n = 10_000;
+        double[] xValues = new double[n];
+        double[] yValues = new double[n];
+        java.util.Random random = new java.util.Random(42);
+        double x = -50.0;
+        for (int i = 0; i < n; i++) {
+            x += 1e-3 + random.nextDouble();
+            xValues[i] = x;
+            yValues[i] = Math.sin(x);
+        }
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(xValues, yValues);
+
+        for (int k = 0; k < 2000; k++) {
+            double query = xValues[0] + random.nextDouble() * (xValues[n - 1] - xValues[0]);
+            assertEquals(linearIndexOfX(xValues, query), function.indexOfX(query), "indexOfX для x = " + query);
+            assertEquals(linearFloorIndexOfX(xValues, query), function.floorIndexOfX(query), "floorIndexOfX для x = " + query);
+        }
+
+        for (int k = 0; k < n; k += 97) {
+            double exact = xValues[k];
+            assertEquals(k, function.indexOfX(exact), "Точное попадание в узел " + k);
+            assertEquals(k, function.indexOfX(exact + 5e-11), "Попадание в допуск справа от узла " + k);
+            assertEquals(k, function.indexOfX(exact - 5e-11), "Попадание в допуск слева от узла " + k);
+            assertEquals(yValues[k], function.apply(exact + 5e-11), 1e-15, "apply должен вернуть y узла в пределах допуска");
+        }
+    }
+
+    @Test
+    @DisplayName("Бинарный поиск сохраняет экстраполяцию и интерполяцию на границах таблицы")
+    public void testBinarySearchBoundsAndExtrapolation() {
+        double[] xValues = {0.0, 1.0, 2.0, 4.0};
+        double[] yValues = {0.0, 1.0, 4.0, 16.0};
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(xValues, yValues);
+
+        assertEquals(-1.0, function.apply(-1.0), 1e-10, "Экстраполяция слева по первым двум точкам");
+        assertEquals(22.0, function.apply(5.0), 1e-10, "Экстраполяция справа по последним двум точкам");
+        assertEquals(10.0, function.apply(3.0), 1e-10, "Интерполяция внутри последнего интервала");
+        assertEquals(3, function.floorIndexOfX(4.0), "Правая граница → последний индекс");
+        assertEquals(0, function.floorIndexOfX(0.0), "Левая граница → индекс 0");
+        assertEquals(-1, function.indexOfX(Double.NaN), "NaN не совпадает ни с одной точкой");
+    }
+
+    @Test
+    @DisplayName("indexOfX на таблице с одинаковыми x (xFrom == xTo) возвращает первый индекс")
+    public void testBinarySearchWithEqualX() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(x -> x * x, 2.0, 2.0, 5);
+
+        assertEquals(0, function.indexOfX(2.0), "Первое совпадение должно быть на индексе 0");
+        assertEquals(4, function.floorIndexOfX(2.0), "floorIndexOfX должен вернуть последний индекс, как и раньше");
+        assertEquals(4.0, function.apply(2.0), 1e-10);
+    }
+
+    @Test
+    @DisplayName("applyAll на отсортированных и неотсортированных x совпадает с поточечным apply")
+    public void testApplyAllMatchesApply() {
+        double[] xValues = {0.0, 1.0, 2.0, 4.0, 7.0};
+        double[] yValues = {0.0, 1.0, 4.0, 16.0, 49.0};
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(xValues, yValues);
+
+        double[] sorted = {-2.0, -1.0, 0.0, 0.5, 1.0, 1.0 + 5e-11, 1.5, 1.5, 3.0, 4.0, 6.9, 7.0, 8.0, 20.0};
+        double[] unsorted = {3.0, -1.0, 7.0, 0.5, 20.0, 1.0, 4.0};
+
+        for (double[] xs : new double[][]{sorted, unsorted}) {
+            double[] out = new double[xs.length];
+            function.applyAll(xs, out);
+            for (int i = 0; i < xs.length; i++) {
+                assertEquals(function.apply(xs[i]), out[i], 0.0, "x = " + xs[i]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("applyAll с массивами разной длины выбрасывает DifferentLengthOfArraysException")
+    public void testApplyAllDifferentLengthsThrows() {
+        ArrayTabulatedFunction function = createTestFunction();
+
+        assertThrows(DifferentLengthOfArraysException.class, () -> function.applyAll(new double[3], new double[2]));
+    }
+
+    @Test
+    @DisplayName("Конструктор с дискретизацией заполняет y через applyAll так же, как через apply")
+    public void testTabulatingConstructorUsesBatch() {
+        MathFunction source = new ArrayTabulatedFunction(new double[]{0.0, 2.0, 5.0}, new double[]{1.0, 3.0, -3.0});
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(source, -1.0, 6.0, 29);
+
+        for (int i = 0; i < function.getCount(); i++) {
+            assertEquals(source.apply(function.getX(i)), function.getY(i), 0.0, "y[" + i + "]");
+        }
+    }
+
+    @Test
+    @DisplayName("insertAll с неотсортированной пачкой и повторами даёт тот же результат, что и поочерёдный insert")
+    public void testInsertAllMatchesSequentialInsert() {
+        double[] xValues = {0.0, 2.0, 4.0, 6.0};
+        double[] yValues = {0.0, 20.0, 40.0, 60.0};
+        ArrayTabulatedFunction sequential = new ArrayTabulatedFunction(xValues, yValues);
+        ArrayTabulatedFunction batch = new ArrayTabulatedFunction(xValues, yValues);
+
+        double[] xs = {5.0, -1.0, 2.0, 3.0, 5.0, 7.5, 2.0 + 1e-11, 1.0};
+        double[] ys = {1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0};
+        for (int i = 0; i < xs.length; i++) {
+            sequential.insert(xs[i], ys[i]);
+        }
+        batch.insertAll(xs, ys);
+
+        assertArrayEquals(sequential.getxVal(), batch.getxVal(), 0.0, "x после insertAll");
+        assertArrayEquals(sequential.getyVal(), batch.getyVal(), 0.0, "y после insertAll");
+        assertEquals(7.0, batch.getY(batch.indexOfX(2.0)), 0.0, "Совпадающий x обновляет y существующей точки");
+        assertEquals(5.0, batch.getY(batch.indexOfX(5.0)), 0.0, "Из повторов пачки побеждает последний");
+    }
+
+    @Test
+    @DisplayName("insertAll с разными длинами или NaN выбрасывает исключение, пустая пачка ничего не меняет")
+    public void testInsertAllValidation() {
+        ArrayTabulatedFunction function = createTestFunction();
+
+        assertThrows(DifferentLengthOfArraysException.class, () -> function.insertAll(new double[]{1.0}, new double[0]));
+        assertThrows(IllegalArgumentException.class, () -> function.insertAll(new double[]{Double.NaN}, new double[]{1.0}));
+        function.insertAll(new double[0], new double[0]);
+        assertEquals(5, function.getCount());
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    @DisplayName("Поточечная вставка 200000 точек в конец и в начало работает с амортизированным ростом ёмкости")
+    public void testStreamingInsertIsAmortized() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(new double[]{0.0, 1.0}, new double[]{0.0, 1.0});
+        for (int i = 2; i < 200_000; i++) {
+            function.insert(i, i);
+        }
+        for (int i = 1; i <= 1000; i++) {
+            function.insert(-i, -i);
+        }
+
+        assertEquals(201_000, function.getCount());
+        assertEquals(-1000.0, function.leftBound(), 0.0);
+        assertEquals(199_999.0, function.rightBound(), 0.0);
+        assertEquals(12345.5, function.apply(12345.5), 1e-9);
+    }
+
+    @Test
+    @DisplayName("insertAll только с существующими x не увеличивает ёмкость")
+    void testInsertAllUpdatesKeepCapacity() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(
+                new double[]{0.0, 1.0, 2.0, 3.0}, new double[]{0.0, 1.0, 4.0, 9.0});
+        int capacity = function.getCapacity();
+
+        for (int k = 0; k < 100; k++) {
+            function.insertAll(new double[]{1.0}, new double[]{k});
+            function.insertAll(new double[]{3.0, 0.0}, new double[]{-k, k});
+        }
+
+        assertEquals(capacity, function.getCapacity());
+        assertArrayEquals(new double[]{0.0, 1.0, 2.0, 3.0}, function.getxVal(), 0.0);
+        assertArrayEquals(new double[]{99.0, 99.0, 4.0, -99.0}, function.getyVal(), 0.0);
+
+        //смешанная пачка: новые точки растят массивы не чаще, чем в 1.5 раза при нехватке места
+        for (int k = 0; k < 100; k++) {
+            function.insertAll(new double[]{2.0, 4.0 + k}, new double[]{k, k});
+        }
+        assertEquals(104, function.getCount());
+        assertTrue(function.getCapacity() < 2 * 104);
+        assertEquals(99.0, function.getY(2), 0.0);
+        assertEquals(103.0, function.getX(103), 0.0);
+    }
+
+    @Test
+    @DisplayName("Удаление через arraycopy со сжатием ёмкости сохраняет точки, trimToSize не меняет данные")
+    public void testRemoveWithShrinkAndTrim() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(x -> 2 * x, 0.0, 999.0, 1000);
+        while (function.getCount() > 3) {
+            function.remove(1);
+        }
+
+        assertArrayEquals(new double[]{0.0, 998.0, 999.0}, function.getxVal(), 1e-9);
+        assertArrayEquals(new double[]{0.0, 1996.0, 1998.0}, function.getyVal(), 1e-9);
+
+        function.trimToSize();
+        function.insert(500.0, 1.0);
+        assertArrayEquals(new double[]{0.0, 500.0, 998.0, 999.0}, function.getxVal(), 1e-9);
+        assertEquals(0.5, function.apply(250.0), 1e-9);
+    }
+
+    @Test
+    @DisplayName("forEachPoint обходит все точки по порядку, как итератор")
+    void testForEachPointMatchesIterator() {
+        ArrayTabulatedFunction function = createTestFunction();
+        function.insert(2.5, 5.0);
+        double[] xs = new double[function.getCount()];
+        double[] ys = new double[function.getCount()];
+        int[] index = {0};
+
+        function.forEachPoint((x, y) -> {
+            xs[index[0]] = x;
+            ys[index[0]] = y;
+            index[0]++;
+        });
+
+        assertEquals(function.getCount(), index[0]);
+        int i = 0;
+        for (Point point : function) {
+            assertEquals(point.x, xs[i], 0.0);
+            assertEquals(point.y, ys[i], 0.0);
+            i++;
+        }
+    }
 }
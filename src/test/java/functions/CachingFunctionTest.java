@@ -0,0 +1,134 @@
+package functions;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingFunctionTest {
+
+    //функция, считающая свои вызовы
+    private static final class CountingFunction implements MathFunction {
+        private final AtomicInteger calls = new AtomicInteger();
+        private final MathFunction function;
+
+        CountingFunction(MathFunction function) {
+            this.function = function;
+        }
+
+        @Override
+        public double apply(double x) {
+            calls.incrementAndGet();
+            return function.apply(x);
+        }
+    }
+
+    @Test
+    @DisplayName("Повторный вызов в той же точке берётся из кэша")
+    void testExactHits() {
+        CountingFunction inner = new CountingFunction(new SqrFunction());
+        CachingFunction cached = new CachingFunction(inner, 100);
+
+        assertEquals(9.0, cached.apply(3.0), 0.0);
+        assertEquals(9.0, cached.apply(3.0), 0.0);
+        assertEquals(4.0, cached.apply(-2.0), 0.0);
+        assertEquals(9.0, cached.apply(3.0), 0.0);
+
+        assertEquals(2, inner.calls.get());
+        assertEquals(2, cached.getHitCount());
+        assertEquals(2, cached.getMissCount());
+    }
+
+    @Test
+    @DisplayName("При переполнении вытесняется давно не использованное значение")
+    void testLruEviction() {
+        CountingFunction inner = new CountingFunction(x -> x + 1);
+        CachingFunction single = new CachingFunction(inner, 1);
+        single.apply(1.0);
+        single.apply(2.0); //вытесняет 1.0
+        single.apply(2.0);
+        single.apply(1.0);
+        assertEquals(3, inner.calls.get());
+
+        CountingFunction counted = new CountingFunction(x -> 2 * x);
+        CachingFunction cached = new CachingFunction(counted, 64);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(2.0 * i, cached.apply(i), 0.0);
+        }
+        for (int i = 0; i < 1000; i++) {
+            cached.apply(i);
+        }
+        //в кэше не больше 64 значений, поэтому повторный проход почти весь промахивается
+        assertTrue(cached.getHitCount() <= 64);
+        assertEquals(2000 - cached.getHitCount(), counted.calls.get());
+    }
+
+    @Test
+    @DisplayName("Ленивая сетка: интерполяция по узлам, узлы вычисляются один раз")
+    void testLazyGrid() {
+        CountingFunction inner = new CountingFunction(Math::sin);
+        CachingFunction cached = new CachingFunction(inner, 16, 0.0, Math.PI, 1001);
+
+        for (int i = 0; i <= 500; i++) {
+            double x = 0.5 + i * 1e-3;
+            assertEquals(Math.sin(x), cached.apply(x), 2e-6);
+        }
+        //отрезок [0.5, 1.0] покрывают около 160 узлов сетки
+        assertTrue(inner.calls.get() < 170);
+        int calls = inner.calls.get();
+        cached.apply(0.75);
+        assertEquals(Math.sin(Math.PI), cached.apply(Math.PI), 1e-15);
+        assertEquals(calls + 1, inner.calls.get());
+
+        //вне сетки работает точный кэш
+        assertEquals(Math.sin(5.0), cached.apply(5.0), 0.0);
+        cached.apply(5.0);
+        assertEquals(calls + 2, inner.calls.get());
+    }
+
+    @Test
+    @DisplayName("Параллельные читатели получают верные значения")
+    void testConcurrentReaders() throws InterruptedException {
+        CachingFunction cached = new CachingFunction(x -> x * x * x, 256);
+        CachingFunction gridded = new CachingFunction(x -> 3 * x, 256, -1.0, 1.0, 101);
+        List<Thread> threads = new ArrayList<>();
+        AtomicInteger errors = new AtomicInteger();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    double x = (i % 500) * 0.01 - 2.5;
+                    if (cached.apply(x) != x * x * x) {
+                        errors.incrementAndGet();
+                    }
+                    if (Math.abs(gridded.apply(x) - 3 * x) > 1e-12) {
+                        errors.incrementAndGet();
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(0, errors.get());
+        assertEquals(80_000, cached.getHitCount() + cached.getMissCount());
+        assertTrue(cached.getHitCount() > 0);
+    }
+
+    @Test
+    @DisplayName("Неверные параметры кэша")
+    void testInvalidArguments() {
+        MathFunction f = new IdentityFunction();
+        assertThrows(IllegalArgumentException.class, () -> new CachingFunction(null, 10));
+        assertThrows(IllegalArgumentException.class, () -> new CachingFunction(f, 0));
+        assertThrows(IllegalArgumentException.class, () -> new CachingFunction(f, 10, 1.0, 1.0, 5));
+        assertThrows(IllegalArgumentException.class, () -> new CachingFunction(f, 10, 0.0, 1.0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new CachingFunction(f, 10, Double.NaN, 1.0, 5));
+    }
+}
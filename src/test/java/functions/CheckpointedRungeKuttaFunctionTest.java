@@ -0,0 +1,92 @@
+package functions;
+
+import functions.factory.LinkedListTabulatedFunctionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Тесты для CheckpointedRungeKuttaFunction")
+class CheckpointedRungeKuttaFunctionTest {
+
+    private final static double delta = 1e-4;
+
+    @Test
+    @DisplayName("Значения побитово совпадают с RungeKuttaFunction в любом порядке обращений")
+    void testMatchesRungeKuttaFunction() {
+        MathFunction dEquation = x -> Math.cos(x) * x;
+        RungeKuttaFunction plain = new RungeKuttaFunction(dEquation, 0.5, 2.0, 0.01);
+        CheckpointedRungeKuttaFunction checkpointed = new CheckpointedRungeKuttaFunction(dEquation, 0.5, 2.0, 0.01);
+
+        double[] xs = {7.3, 0.5, 2.0, 12.345, 3.01, 3.02, 9.99, 0.51, 25.0, 4.4};
+        for (double x : xs) {
+            assertEquals(plain.apply(x), checkpointed.apply(x), 0.0, "x = " + x);
+        }
+        assertTrue(checkpointed.getCheckpointCount() >= 9);
+    }
+
+    @Test
+    @DisplayName("Обход по возрастанию продолжает вычисления, а не начинает их с x0")
+    void testSweepIsLinear() {
+        AtomicLong evaluations = new AtomicLong();
+        MathFunction dEquation = x -> {
+            evaluations.incrementAndGet();
+            return 2 * x;
+        };
+        CheckpointedRungeKuttaFunction function = new CheckpointedRungeKuttaFunction(dEquation, 0.0, 0.0, 0.001);
+
+        for (int i = 1; i <= 1000; i++) {
+            double x = i * 0.01;
+            assertEquals(x * x, function.apply(x), delta);
+        }
+        //10000 шагов по 3 вычисления правой части; без продолжения было бы около 15 миллионов
+        assertEquals(30_000, evaluations.get());
+
+        function.apply(5.0); //назад к уже пройденной точке — от ближайшей сохранённой точки
+        assertTrue(evaluations.get() < 30_000 + 3 * 256);
+    }
+
+    @Test
+    @DisplayName("Точки левее x0 считаются шагами назад при любом знаке шага")
+    void testBackwardIntegration() {
+        //dy/dx = 2x, y(1) = 1 -> y(x) = x²
+        CheckpointedRungeKuttaFunction positive = new CheckpointedRungeKuttaFunction(x -> 2 * x, 1, 1, 0.1);
+        CheckpointedRungeKuttaFunction negative = new CheckpointedRungeKuttaFunction(x -> 2 * x, 1, 1, -0.1);
+        RungeKuttaFunction plainBackward = new RungeKuttaFunction(x -> 2 * x, 1, 1, -0.1);
+
+        for (double x : new double[]{0.9, 0.5, -2.0, 3.0, 1.0}) {
+            assertEquals(x * x, positive.apply(x), delta);
+            assertEquals(positive.apply(x), negative.apply(x), 0.0);
+        }
+        assertEquals(plainBackward.apply(0.3), negative.apply(0.3), 0.0);
+    }
+
+    @Test
+    @DisplayName("tabulate строит таблицу через фабрику по обе стороны от x0")
+    void testTabulate() {
+        MathFunction dEquation = x -> Math.exp(-x) * Math.sin(x);
+        CheckpointedRungeKuttaFunction function = new CheckpointedRungeKuttaFunction(dEquation, 0.0, 0.0, 1e-3);
+        CheckpointedRungeKuttaFunction reference = new CheckpointedRungeKuttaFunction(dEquation, 0.0, 0.0, 1e-3);
+
+        TabulatedFunction table = function.tabulate(2.0, -1.0, 301, new LinkedListTabulatedFunctionFactory());
+
+        assertInstanceOf(LinkedListTabulatedFunction.class, table);
+        assertEquals(301, table.getCount());
+        assertEquals(-1.0, table.leftBound(), 0.0);
+        assertEquals(2.0, table.rightBound(), 1e-12);
+        for (int i = 0; i < table.getCount(); i += 7) {
+            double x = table.getX(i);
+            assertEquals(reference.apply(x), table.getY(i), 0.0);
+            double exact = (1 - Math.exp(-x) * (Math.sin(x) + Math.cos(x))) / 2;
+            assertEquals(exact, table.getY(i), delta);
+        }
+
+        assertInstanceOf(ArrayTabulatedFunction.class, function.tabulate(0.0, 1.0, 5));
+        assertThrows(IllegalArgumentException.class, () -> function.tabulate(0.0, 1.0, 1));
+        assertThrows(IllegalArgumentException.class, () -> function.tabulate(0.0, 1.0, 5, null));
+        assertThrows(IllegalArgumentException.class, () -> new CheckpointedRungeKuttaFunction(x -> x, 0, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new CheckpointedRungeKuttaFunction(null, 0, 0, 0.1));
+    }
+}
@@ -243,4 +243,21 @@ class CompositeFunctionTest {
         assertEquals(40.0, composition.apply(1.25), 1e-8, "f(g(1.25)) = 40 интерполяций, GOOD");
         assertEquals(41.0, composition.apply(1.5), 1e-8, "f(g(1.5)) = 41 интерполяций, GOOD");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("applyAll композиции совпадает с поточечным apply")
+    void testApplyAllMatchesApply(){
+        double[] x = {0.0, 1.0, 2.0, 3.0, 4.0};
+        double[] y = {-5.0, -1.0, 3.0, 7.0, 11.0};
+        MathFunction composition = new LinkedListTabulatedFunction(x, y).andThen(new SqrFunction())
+                .andThen(new ArrayTabulatedFunction(x, y));
+
+        double[] xs = {-1.0, -0.5, 0.0, 0.3, 0.7, 1.0, 1.5, 2.2, 3.0, 5.0};
+        double[] out = new double[xs.length];
+        composition.applyAll(xs, out);
+
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals(composition.apply(xs[i]), out[i], 1e-12, "x = " + xs[i] + ", GOOD");
+        }
+    }
+}
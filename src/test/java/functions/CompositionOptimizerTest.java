@@ -0,0 +1,103 @@
+package functions;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Тесты для CompositionOptimizer")
+class CompositionOptimizerTest {
+
+    private static final MathFunction PLUS_ONE = x -> x + 1;
+    private static final MathFunction TWICE = x -> 2 * x;
+
+    @Test
+    @DisplayName("Развёрнутая цепочка считает то же, что вложенные CompositeFunction")
+    void testFlattenedMatchesNested() {
+        MathFunction sqr = new SqrFunction();
+        for (int depth = 1; depth <= 6; depth++) {
+            MathFunction nested = PLUS_ONE;
+            for (int k = 1; k < depth; k++) {
+                //чередуем стороны, чтобы дерево было не только цепочкой
+                nested = k % 2 == 0 ? nested.andThen(k % 3 == 0 ? sqr : TWICE) : new CompositeFunction(TWICE, nested);
+            }
+            MathFunction optimized = CompositionOptimizer.optimize(nested);
+            assertFalse(optimized instanceof CompositeFunction);
+
+            double[] xs = {-2.5, -1.0, 0.0, 0.3, 4.0};
+            double[] expected = new double[xs.length];
+            double[] actual = new double[xs.length];
+            nested.applyAll(xs, expected);
+            optimized.applyAll(xs, actual);
+            for (int i = 0; i < xs.length; i++) {
+                assertEquals(nested.apply(xs[i]), optimized.apply(xs[i]), 0.0);
+                assertEquals(expected[i], actual[i], 0.0);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Порядок применения: CompositeFunction(f, g) = f(g(x))")
+    void testOrder() {
+        MathFunction optimized = CompositionOptimizer.optimize(new CompositeFunction(PLUS_ONE, TWICE));
+
+        assertEquals(7.0, optimized.apply(3.0), 0.0);
+    }
+
+    @Test
+    @DisplayName("Тождественные функции выбрасываются")
+    void testIdentityDropped() {
+        MathFunction identity = new IdentityFunction();
+
+        assertSame(PLUS_ONE, CompositionOptimizer.optimize(identity.andThen(PLUS_ONE).andThen(identity)));
+        assertInstanceOf(IdentityFunction.class, CompositionOptimizer.optimize(identity.andThen(identity)));
+    }
+
+    @Test
+    @DisplayName("Константа сворачивает всё, что применяется после неё")
+    void testConstantFolding() {
+        MathFunction sqr = new SqrFunction();
+        //PLUS_ONE(TWICE(3)) после константы 3, SQR до неё отбрасывается
+        MathFunction composition = new CompositeFunction(PLUS_ONE, new CompositeFunction(TWICE,
+                new CompositeFunction(new ConstantFunction(3.0), sqr)));
+
+        MathFunction optimized = CompositionOptimizer.optimize(composition);
+
+        ConstantFunction constant = assertInstanceOf(ConstantFunction.class, optimized);
+        assertEquals(7.0, constant.getConstant(), 0.0);
+        assertEquals(7.0, optimized.apply(123.0), 0.0);
+    }
+
+    @Test
+    @DisplayName("Константа без звеньев после неё возвращается как есть")
+    void testConstantKept() {
+        ZeroFunction zero = new ZeroFunction();
+        UnitFunction unit = new UnitFunction();
+
+        assertSame(zero, CompositionOptimizer.optimize(zero.andThen(new SqrFunction())));
+        assertSame(unit, CompositionOptimizer.optimize(new IdentityFunction().andThen(unit.andThen(zero))));
+    }
+
+    @Test
+    @DisplayName("Очень глубокая композиция разворачивается без рекурсии")
+    void testDeepComposition() {
+        MathFunction nested = PLUS_ONE;
+        for (int k = 1; k < 100_000; k++) {
+            nested = new CompositeFunction(PLUS_ONE, nested);
+        }
+
+        MathFunction optimized = CompositionOptimizer.optimize(nested);
+
+        assertEquals(100_000.0, optimized.apply(0.0), 0.0);
+        assertSame(optimized.getClass(), CompositionOptimizer.optimize(optimized).getClass());
+        assertEquals(200_000.0, CompositionOptimizer.optimize(optimized.andThen(optimized)).apply(0.0), 0.0);
+    }
+
+    @Test
+    @DisplayName("null вместо функции или звена")
+    void testNull() {
+        assertThrows(IllegalArgumentException.class, () -> CompositionOptimizer.optimize(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> CompositionOptimizer.optimize(new CompositeFunction(PLUS_ONE, null)));
+    }
+}
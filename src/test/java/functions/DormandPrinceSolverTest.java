@@ -0,0 +1,82 @@
+package functions;
+
+import functions.factory.ArrayTabulatedFunctionFactory;
+import functions.factory.LinkedListTabulatedFunctionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Тесты для DormandPrinceSolver")
+class DormandPrinceSolverTest {
+
+    @Test
+    @DisplayName("y' = y: траектория совпадает с экспонентой в пределах допуска")
+    void testExponentialTrajectory() {
+        DormandPrinceSolver solver = new DormandPrinceSolver((x, y) -> y, 1e-10, 1e-10);
+
+        TabulatedFunction trajectory = solver.solve(0.0, 1.0, 5.0, new ArrayTabulatedFunctionFactory());
+
+        assertEquals(0.0, trajectory.leftBound(), 0.0);
+        assertEquals(5.0, trajectory.rightBound(), 0.0);
+        for (int i = 0; i < trajectory.getCount(); i++) {
+            double x = trajectory.getX(i);
+            assertEquals(Math.exp(x), trajectory.getY(i), 1e-8 * Math.exp(x));
+        }
+    }
+
+    @Test
+    @DisplayName("Число шагов определяется требуемой точностью")
+    void testStepsFollowTolerance() {
+        DifferentialEquation equation = (x, y) -> -2 * x * y;
+        ArrayTabulatedFunctionFactory factory = new ArrayTabulatedFunctionFactory();
+
+        TabulatedFunction coarse = new DormandPrinceSolver(equation, 1e-4, 1e-4).solve(0.0, 1.0, 3.0, factory);
+        TabulatedFunction fine = new DormandPrinceSolver(equation, 1e-11, 1e-11).solve(0.0, 1.0, 3.0, factory);
+
+        assertTrue(coarse.getCount() < fine.getCount());
+        assertTrue(coarse.getCount() < 40);
+        assertEquals(Math.exp(-9.0), fine.getY(fine.getCount() - 1), 1e-11);
+    }
+
+    @Test
+    @DisplayName("Плотный вывод на равномерной сетке и интегрирование назад")
+    void testDenseOutput() {
+        //y' = cos(x) - y, y(0) = 0 -> y = (sin x + cos x - e^-x) / 2
+        DormandPrinceSolver solver = new DormandPrinceSolver((x, y) -> Math.cos(x) - y, 1e-10, 1e-10);
+
+        TabulatedFunction grid = solver.solve(0.0, 0.0, 10.0, 1001, new LinkedListTabulatedFunctionFactory());
+
+        assertInstanceOf(LinkedListTabulatedFunction.class, grid);
+        assertEquals(1001, grid.getCount());
+        for (int i = 0; i < grid.getCount(); i += 10) {
+            double x = grid.getX(i);
+            assertEquals(0.01 * i, x, 1e-12);
+            assertEquals((Math.sin(x) + Math.cos(x) - Math.exp(-x)) / 2, grid.getY(i), 1e-7);
+        }
+
+        //y' = y от x = 2 назад к x = 0
+        TabulatedFunction backward = new DormandPrinceSolver((x, y) -> y, 1e-10, 1e-10)
+                .solve(2.0, Math.exp(2.0), 0.0, 21, new ArrayTabulatedFunctionFactory());
+        assertEquals(0.0, backward.leftBound(), 0.0);
+        assertEquals(2.0, backward.rightBound(), 0.0);
+        for (int i = 0; i < backward.getCount(); i++) {
+            assertEquals(Math.exp(backward.getX(i)), backward.getY(i), 1e-8);
+        }
+    }
+
+    @Test
+    @DisplayName("Неверные параметры и особенность решения")
+    void testErrors() {
+        DifferentialEquation equation = (x, y) -> y * y;
+        ArrayTabulatedFunctionFactory factory = new ArrayTabulatedFunctionFactory();
+        assertThrows(IllegalArgumentException.class, () -> new DormandPrinceSolver(null, 1e-6, 1e-6));
+        assertThrows(IllegalArgumentException.class, () -> new DormandPrinceSolver(equation, 0, 0));
+        DormandPrinceSolver solver = new DormandPrinceSolver(equation, 1e-8, 1e-8, 10_000);
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(0.0, 1.0, 0.0, factory));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(0.0, 1.0, 1.0, 1, factory));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(0.0, 1.0, 0.5, null));
+        //y' = y², y(0) = 1 -> y = 1 / (1 - x) уходит в бесконечность при x = 1
+        assertThrows(ArithmeticException.class, () -> solver.solve(0.0, 1.0, 2.0, factory));
+    }
+}
@@ -5,11 +5,13 @@ import exception.DifferentLengthOfArraysException;
 import exception.ArrayIsNotSortedException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Timeout;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
 
 
 @DisplayName("Тесты для LinkedListTabulatedFunction")
@@ -1369,6 +1371,292 @@ class LinkedListTabulatedFunctionTest {
        assertThrows(IllegalStateException.class, ()->singlePoint.indexOfX(0));
     }
 
+    @Test
+    @DisplayName("applyAll на отсортированных и неотсортированных x совпадает с поточечным apply")
+    void testApplyAllMatchesApply() {
+        LinkedListTabulatedFunction function = new LinkedListTabulatedFunction(
+                new double[]{0.0, 1.0, 2.0, 4.0, 7.0},
+                new double[]{0.0, 1.0, 4.0, 16.0, 49.0}
+        );
+
+        double[] sorted = {-2.0, -1.0, 0.0, 0.5, 1.0, 1.0 + 5e-11, 1.5, 1.5, 3.0, 4.0, 6.9, 7.0, 8.0, 20.0};
+        double[] unsorted = {3.0, -1.0, 7.0, 0.5, 20.0, 1.0, 4.0};
+
+        for (double[] xs : new double[][]{sorted, unsorted}) {
+            double[] out = new double[xs.length];
+            function.applyAll(xs, out);
+            for (int i = 0; i < xs.length; i++) {
+                assertEquals(function.apply(xs[i]), out[i], 0.0, "x = " + xs[i]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Конструктор с дискретизацией заполняет y через applyAll так же, как через apply")
+    void testTabulatingConstructorUsesBatch() {
+        MathFunction source = new SqrFunction().andThen(x -> x + 1);
+        LinkedListTabulatedFunction function = new LinkedListTabulatedFunction(source, -2.0, 3.0, 11);
+
+        for (int i = 0; i < function.getCount(); i++) {
+            assertEquals(source.apply(function.getX(i)), function.getY(i), 0.0, "y[" + i + "]");
+        }
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    @DisplayName("Монотонный проход по списку из 100000 узлов через apply и getY работает за линейное время")
+    void testSweepLargeListWithCursor() {
+        int n = 100_000;
+        LinkedListTabulatedFunction function = new LinkedListTabulatedFunction(x -> 2 * x + 1, 0.0, n - 1, n);
+
+        //проход вперёд по серединам интервалов
+        for (int i = 0; i < n - 1; i++) {
+            double x = i + 0.5;
+            assertEquals(2 * x + 1, function.apply(x), 1e-9, "apply(" + x + ")");
+        }
+        //проход назад по узлам
+        for (int i = n - 1; i >= 0; i--) {
+            assertEquals(2.0 * i + 1, function.getY(i), 1e-9, "getY(" + i + ")");
+            assertEquals(i, function.getX(i), 1e-9, "getX(" + i + ")");
+        }
+        //почти монотонный поток: шаг вперёд на 3 узла, назад на 1
+        for (int i = 1; i < n - 3; i += 2) {
+            assertEquals(i + 2, function.floorIndexOfX(i + 2.25));
+            assertEquals(i + 1, function.floorIndexOfX(i + 1.75));
+        }
+    }
+
+    @Test
+    @DisplayName("Курсор корректно сбрасывается после вставки и удаления узлов")
+    void testCursorAfterInsertAndRemove() {
+        LinkedListTabulatedFunction function = new LinkedListTabulatedFunction(
+                new double[]{0.0, 1.0, 2.0, 3.0, 4.0},
+                new double[]{0.0, 10.0, 20.0, 30.0, 40.0}
+        );
+
+        assertEquals(35.0, function.apply(3.5), 1e-10);
+        assertEquals(30.0, function.getY(3), 1e-10);
+
+        function.remove(3);
+        assertEquals(40.0, function.getY(3), 1e-10, "После удаления индекс 3 указывает на x = 4");
+        assertEquals(2, function.floorIndexOfX(3.5));
+        assertEquals(30.0, function.apply(3.0), 1e-10, "Интерполяция между x = 2 и x = 4");
+
+        function.insert(0.5, 5.0);
+        assertEquals(1.0, function.getX(2), 1e-10, "После вставки индексы сдвигаются");
+        assertEquals(0.5, function.getX(1), 1e-10);
+        assertEquals(1, function.floorIndexOfX(0.75));
+        assertEquals(4, function.floorIndexOfX(4.0));
+        assertEquals(0, function.floorIndexOfX(0.0));
+    }
+
+    @Test
+    @DisplayName("Случайный доступ по индексу через курсор возвращает те же значения")
+    void testRandomAccessWithCursor() {
+        int n = 1000;
+        double[] xValues = new double[n];
+        double[] yValues = new double[n];
+        for (int i = 0; i < n; i++) {
+            xValues[i] = i * 0.5;
+            yValues[i] = Math.sin(i);
+        }
+        LinkedListTabulatedFunction function = new LinkedListTabulatedFunction(xValues, yValues);
+
+        java.util.Random random = new java.util.Random(7);
+        for (int k = 0; k < 5000; k++) {
+            int i = random.nextInt(n);
+            assertEquals(xValues[i], function.getX(i), 0.0, "getX(" + i + ")");
+            assertEquals(yValues[i], function.getY(i), 0.0, "getY(" + i + ")");
+            double x = random.nextDouble() * xValues[n - 1];
+            assertEquals(Math.min((int) (x / 0.5), n - 1), function.floorIndexOfX(x), "floorIndexOfX(" + x + ")");
+        }
+    }
+
+    @Test
+    @DisplayName("Список с индексом ведёт себя так же, как обычный, при случайных вставках, удалениях и поиске")
+    void testIndexedListMatchesPlainList() {
+        double[] xValues = new double[200];
+        double[] yValues = new double[200];
+        for (int i = 0; i < xValues.length; i++) {
+            xValues[i] = i * 2.0;
+            yValues[i] = Math.cos(i);
+        }
+        LinkedListTabulatedFunction plain = new LinkedListTabulatedFunction(xValues, yValues);
+        LinkedListTabulatedFunction indexed = new LinkedListTabulatedFunction(xValues, yValues, true);
+        assertFalse(plain.isIndexed());
+        assertTrue(indexed.isIndexed());
+
+        java.util.Random random = new java.util.Random(11);
+        for (int step = 0; step < 3000; step++) {
+            int operation = random.nextInt(6);
+            double x = random.nextInt(800) * 0.5 - 5.0;
+            if (operation == 0) {
+                plain.insert(x, step);
+                indexed.insert(x, step);
+            } else if (operation == 1 && plain.getCount() > 2) {
+                int index = random.nextInt(plain.getCount());
+                plain.remove(index);
+                indexed.remove(index);
+            } else if (operation == 2) {
+                assertEquals(plain.indexOfX(x), indexed.indexOfX(x), "indexOfX(" + x + ")");
+            } else if (operation == 3) {
+                int index = random.nextInt(plain.getCount());
+                assertEquals(plain.getX(index), indexed.getX(index), 0.0, "getX(" + index + ")");
+                assertEquals(plain.getY(index), indexed.getY(index), 0.0, "getY(" + index + ")");
+            } else if (operation == 4 && x >= plain.leftBound() && x <= plain.rightBound()) {
+                assertEquals(plain.floorIndexOfX(x), indexed.floorIndexOfX(x), "floorIndexOfX(" + x + ")");
+            } else {
+                assertEquals(plain.apply(x), indexed.apply(x), 0.0, "apply(" + x + ")");
+            }
+            assertEquals(plain.getCount(), indexed.getCount());
+        }
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    @DisplayName("Список с индексом на 200000 узлов выдерживает случайный доступ и вставки")
+    void testIndexedListLargeRandomAccess() {
+        int n = 200_000;
+        double[] xValues = new double[n];
+        double[] yValues = new double[n];
+        for (int i = 0; i < n; i++) {
+            xValues[i] = i;
+            yValues[i] = 3.0 * i;
+        }
+        LinkedListTabulatedFunction function = new LinkedListTabulatedFunction(xValues, yValues, true);
+
+        java.util.Random random = new java.util.Random(3);
+        for (int k = 0; k < 20_000; k++) {
+            int index = random.nextInt(n);
+            assertEquals(index, function.getX(index), 0.0);
+            assertEquals(index, function.indexOfX(index));
+            double x = random.nextDouble() * (n - 1);
+            assertEquals(3.0 * x, function.apply(x), 1e-6);
+        }
+        for (int k = 0; k < 20_000; k++) {
+            function.insert(random.nextInt(n - 1) + 0.5, 0.0);
+        }
+        for (int i = 1; i < function.getCount(); i++) {
+            assertTrue(function.getX(i - 1) < function.getX(i), "Порядок x должен сохраняться");
+        }
+    }
+
+    @Test
+    @DisplayName("Индекс перестраивается после сериализации и удаления всех узлов")
+    void testIndexedListSerializationAndEmptying() throws Exception {
+        LinkedListTabulatedFunction function = new LinkedListTabulatedFunction(
+                new double[]{1.0, 2.0, 3.0}, new double[]{1.0, 4.0, 9.0}, true);
+
+        java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();
+        try (java.io.ObjectOutputStream out = new java.io.ObjectOutputStream(bytes)) {
+            out.writeObject(function);
+        }
+        LinkedListTabulatedFunction restored;
+        try (java.io.ObjectInputStream in = new java.io.ObjectInputStream(
+                new java.io.ByteArrayInputStream(bytes.toByteArray()))) {
+            restored = (LinkedListTabulatedFunction) in.readObject();
+        }
+
+        assertTrue(restored.isIndexed());
+        assertEquals(1, restored.indexOfX(2.0));
+        restored.insert(2.5, 6.25);
+        assertEquals(3, restored.indexOfX(3.0));
+
+        restored.remove(0);
+        restored.remove(0);
+        restored.remove(0);
+        restored.remove(0);
+        assertEquals(0, restored.getCount());
+        restored.insert(5.0, 25.0);
+        restored.insert(4.0, 16.0);
+        assertEquals(0, restored.indexOfX(4.0));
+        assertEquals(25.0, restored.getY(1), 0.0);
+    }
+
+    @Test
+    @DisplayName("forEachPoint проходит по узлам списка и совпадает с итератором")
+    void testForEachPointMatchesIterator() {
+        LinkedListTabulatedFunction function = new LinkedListTabulatedFunction(x -> x * x, 0.0, 3.0, 31);
+        function.remove(7);
+        StringBuilder visited = new StringBuilder();
+        StringBuilder iterated = new StringBuilder();
 
+        function.forEachPoint((x, y) -> visited.append(x).append(';').append(y).append('\n'));
+        for (Point point : function) {
+            iterated.append(point.x).append(';').append(point.y).append('\n');
+        }
+
+        assertEquals(iterated.toString(), visited.toString());
+    }
+
+    //Потоки читают одну и ту же функцию; на прямой 2x + 1 интерполяция точна до округления
+    private static void assertConcurrentReadsConsistent(LinkedListTabulatedFunction function) throws InterruptedException {
+        int threads = 8;
+        int calls = 20_000;
+        java.util.concurrent.atomic.AtomicInteger wrong = new java.util.concurrent.atomic.AtomicInteger();
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            long seed = t;
+            workers[t] = new Thread(() -> {
+                java.util.Random random = new java.util.Random(seed);
+                for (int k = 0; k < calls; k++) {
+                    double x = random.nextDouble() * 1000.0;
+                    if (Math.abs(function.apply(x) - (2 * x + 1)) > 1e-6) {
+                        wrong.incrementAndGet();
+                    }
+                    int index = random.nextInt(function.getCount());
+                    double xIndex = function.getX(index);
+                    if (Math.abs(xIndex - index / 10.0) > 1e-9 || Math.abs(function.getY(index) - (2 * xIndex + 1)) > 1e-9) {
+                        wrong.incrementAndGet();
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        assertEquals(0, wrong.get());
+    }
 
+    @Test
+    @Timeout(value = 30, unit = TimeUnit.SECONDS)
+    @DisplayName("Параллельные чтения apply/getX/getY не портят курсор")
+    void testConcurrentReaders() throws InterruptedException {
+        double[] xValues = new double[10_001];
+        double[] yValues = new double[xValues.length];
+        for (int i = 0; i < xValues.length; i++) {
+            xValues[i] = i / 10.0;
+            yValues[i] = 2 * xValues[i] + 1;
+        }
+
+        assertConcurrentReadsConsistent(new LinkedListTabulatedFunction(xValues, yValues));
+    }
+
+    @Test
+    @Timeout(value = 30, unit = TimeUnit.SECONDS)
+    @DisplayName("Параллельные чтения с skip-list индексом: поиск не хранит результат в индексе")
+    void testConcurrentReadersIndexed() throws InterruptedException {
+        LinkedListTabulatedFunction function = new LinkedListTabulatedFunction(x -> 2 * x + 1, 0.0, 1000.0, 10_001, true);
+
+        assertTrue(function.isIndexed());
+        assertConcurrentReadsConsistent(function);
+    }
+
+    @Test
+    @DisplayName("Конструктор с дискретизацией функции строит индекс по флагу")
+    void testIndexedTabulatingConstructor() {
+        LinkedListTabulatedFunction plain = new LinkedListTabulatedFunction(x -> x * x, 0.0, 10.0, 101);
+        LinkedListTabulatedFunction indexed = new LinkedListTabulatedFunction(x -> x * x, 0.0, 10.0, 101, true);
+
+        assertFalse(plain.isIndexed());
+        assertTrue(indexed.isIndexed());
+        for (int i = 0; i < 101; i++) {
+            assertEquals(plain.getX(i), indexed.getX(i), 0.0);
+            assertEquals(i, indexed.indexOfX(plain.getX(i)));
+        }
+        assertEquals(plain.apply(3.33), indexed.apply(3.33), 0.0);
+        indexed.insert(3.33, 0.0);
+        assertEquals(34, indexed.indexOfX(3.33));
+    }
 }
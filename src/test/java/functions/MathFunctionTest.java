@@ -1,5 +1,6 @@
 package functions;
 
+import exception.DifferentLengthOfArraysException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
@@ -184,4 +185,55 @@ public class MathFunctionTest {
         assertEquals(25.0, composite.apply(1.0), 1e-10, "h(1)=2 → g(2)=5 → f(5)=25 GOOD");
         assertEquals(49.0, composite.apply(2.0), 1e-10, "h(2)=4 → g(4)=7 → f(7)=49 GOOD");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("applyAll по умолчанию вычисляет apply для каждой точки")
+    public void testApplyAllDefaultLoop() {
+        MathFunction f = x -> 3 * x - 1;
+        double[] xs = {-1.0, 0.0, 2.5, 10.0};
+        double[] out = new double[xs.length];
+
+        f.applyAll(xs, out);
+
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals(f.apply(xs[i]), out[i], 1e-15, "out[" + i + "] должен совпадать с apply");
+        }
+    }
+
+    @Test
+    @DisplayName("applyAll с массивами разной длины выбрасывает DifferentLengthOfArraysException")
+    public void testApplyAllDifferentLengthsThrows() {
+        double[] xs = {1.0, 2.0};
+        double[] out = new double[3];
+
+        assertThrows(DifferentLengthOfArraysException.class, () -> ((MathFunction) x -> x).applyAll(xs, out));
+        assertThrows(DifferentLengthOfArraysException.class, () -> new SqrFunction().applyAll(xs, out));
+        assertThrows(DifferentLengthOfArraysException.class, () -> new IdentityFunction().applyAll(xs, out));
+        assertThrows(DifferentLengthOfArraysException.class, () -> new ConstantFunction(1.0).applyAll(xs, out));
+        assertThrows(DifferentLengthOfArraysException.class,
+                () -> new SqrFunction().andThen(new IdentityFunction()).applyAll(xs, out));
+    }
+
+    @Test
+    @DisplayName("Специализированные applyAll у простых функций совпадают с apply, в том числе на месте (xs == out)")
+    public void testApplyAllSpecializations() {
+        MathFunction[] functions = {
+                new SqrFunction(), new IdentityFunction(), new ConstantFunction(7.5),
+                new ZeroFunction(), new UnitFunction()
+        };
+        double[] xs = {-3.0, -0.5, 0.0, 1.0, 4.25};
+
+        for (MathFunction f : functions) {
+            double[] out = new double[xs.length];
+            f.applyAll(xs, out);
+
+            double[] inPlace = xs.clone();
+            f.applyAll(inPlace, inPlace);
+
+            for (int i = 0; i < xs.length; i++) {
+                assertEquals(f.apply(xs[i]), out[i], 1e-15, f.getClass().getSimpleName() + ": out[" + i + "]");
+                assertEquals(f.apply(xs[i]), inPlace[i], 1e-15, f.getClass().getSimpleName() + ": на месте [" + i + "]");
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package functions;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Тесты для NewtonRootSolver")
+class NewtonRootSolverTest {
+
+    private final static double delta = 1e-6;
+
+    @Test
+    @DisplayName("Из каждой начальной точки получается тот же корень, что и у NewtonMethod")
+    void testMatchesNewtonMethod() {
+        MathFunction f = x -> x * x * x - 2 * x - 5;
+        MathFunction df = x -> 3 * x * x - 2;
+        NewtonMethod newton = new NewtonMethod(f, df);
+        NewtonRootSolver solver = new NewtonRootSolver(f, df);
+
+        double[] starts = new double[1000];
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = 1.0 + i * 0.1;
+        }
+        NewtonRootSolver.Result result = solver.solve(starts);
+
+        assertEquals(starts.length, result.count(NewtonRootSolver.CONVERGED));
+        for (int i = 0; i < starts.length; i += 37) {
+            assertEquals(newton.apply(starts[i]), result.roots()[i], 0.0);
+        }
+        assertEquals(1, result.distinctRoots().length);
+        assertEquals(2.0945514815, result.distinctRoots()[0], delta);
+    }
+
+    @Test
+    @DisplayName("Коды статуса вместо исключений")
+    void testStatusCodes() {
+        NewtonRootSolver solver = new NewtonRootSolver(x -> x * x + 1, x -> 2 * x, 1e-9, 50);
+
+        NewtonRootSolver.Result result = solver.solve(new double[]{0.0, 3.0});
+
+        assertEquals(NewtonRootSolver.ZERO_DERIVATIVE, result.status()[0]);
+        assertTrue(result.status()[1] == NewtonRootSolver.NOT_CONVERGED
+                || result.status()[1] == NewtonRootSolver.ZERO_DERIVATIVE);
+        assertTrue(Double.isNaN(result.roots()[0]));
+        assertTrue(Double.isNaN(result.roots()[1]));
+        assertEquals(0, result.distinctRoots().length);
+    }
+
+    @Test
+    @DisplayName("Все корни sin на отрезке, включая кратный корень без смены знака")
+    void testIntervalRoots() {
+        NewtonRootSolver solver = new NewtonRootSolver(Math::sin, Math::cos, 1e-12, 100);
+
+        NewtonRootSolver.Result result = solver.solve(-0.5, 20.0, 2000);
+
+        double[] roots = result.distinctRoots();
+        assertEquals(7, roots.length); //0, π, ..., 6π
+        for (int k = 0; k < roots.length; k++) {
+            assertEquals(k * Math.PI, roots[k], 1e-10);
+        }
+        assertEquals(2000, result.roots().length);
+
+        //x² касается нуля: знак не меняется, корень находит обычный Ньютон
+        NewtonRootSolver square = new NewtonRootSolver(x -> (x - 1) * (x - 1), x -> 2 * (x - 1), 1e-10, 200);
+        double[] touching = square.solve(0.0, 3.0, 7).distinctRoots();
+        assertEquals(1, touching.length);
+        assertEquals(1.0, touching[0], 1e-4);
+    }
+
+    @Test
+    @DisplayName("Ньютон с защитой бисекцией не выходит из ячейки со сменой знака")
+    void testSafeguardedBracket() {
+        //у atan Ньютон из середины широкой ячейки расходится, бисекция его удерживает
+        NewtonRootSolver solver = new NewtonRootSolver(Math::atan, x -> 1 / (1 + x * x), 1e-12, 200, new ForkJoinPool(2));
+
+        NewtonRootSolver.Result bracketed = solver.solve(-3.0, 20.0, 1);
+        assertEquals(NewtonRootSolver.CONVERGED, bracketed.status()[0]);
+        assertEquals(0.0, bracketed.roots()[0], 1e-12);
+
+        NewtonRootSolver.Result plain = solver.solve(new double[]{8.5});
+        assertNotEquals(NewtonRootSolver.CONVERGED, plain.status()[0]);
+    }
+
+    @Test
+    @DisplayName("Корни вне отрезка и неверные параметры")
+    void testOutOfIntervalAndArguments() {
+        NewtonRootSolver solver = new NewtonRootSolver(x -> x - 10, x -> 1);
+        NewtonRootSolver.Result result = solver.solve(0.0, 1.0, 4);
+        assertEquals(4, result.count(NewtonRootSolver.OUT_OF_INTERVAL));
+
+        assertThrows(IllegalArgumentException.class, () -> new NewtonRootSolver(null, x -> 1));
+        assertThrows(IllegalArgumentException.class, () -> new NewtonRootSolver(x -> x, x -> 1, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(null));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(1.0, 0.0, 4));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(0.0, 1.0, 0));
+    }
+}
@@ -0,0 +1,102 @@
+package functions;
+
+import functions.factory.ArrayTabulatedFunctionFactory;
+import functions.factory.LinkedListTabulatedFunctionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Тесты для OdeSystemSolver")
+class OdeSystemSolverTest {
+
+    //гармонический осциллятор: y0' = y1, y1' = -y0
+    private static final DifferentialSystem OSCILLATOR = (x, y, dydx, from, to) -> {
+        for (int i = from; i < to; i++) {
+            dydx[i] = i == 0 ? y[1] : -y[0];
+        }
+    };
+
+    //n независимых уравнений y_i' = -(i + 1) * y_i / n
+    private static DifferentialSystem decay(int n) {
+        return (x, y, dydx, from, to) -> {
+            for (int i = from; i < to; i++) {
+                dydx[i] = -(i + 1) * y[i] / n;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Осциллятор: траектория по компонентам совпадает с cos и -sin")
+    void testOscillatorTrajectory() {
+        OdeSystemSolver solver = new OdeSystemSolver(OSCILLATOR, 2, 1e-10, 1e-10);
+
+        TabulatedFunction[] result = solver.solve(0.0, new double[]{1.0, 0.0}, 10.0, new ArrayTabulatedFunctionFactory());
+
+        assertEquals(2, result.length);
+        assertEquals(result[0].getCount(), result[1].getCount());
+        for (int j = 0; j < result[0].getCount(); j++) {
+            double x = result[0].getX(j);
+            assertEquals(x, result[1].getX(j), 0.0);
+            assertEquals(Math.cos(x), result[0].getY(j), 1e-8);
+            assertEquals(-Math.sin(x), result[1].getY(j), 1e-8);
+        }
+    }
+
+    @Test
+    @DisplayName("Скалярная система совпадает с DormandPrinceSolver с точностью до округления")
+    void testMatchesScalarSolver() {
+        DifferentialEquation equation = (x, y) -> Math.cos(x) - y;
+        DifferentialSystem system = (x, y, dydx, from, to) -> dydx[0] = Math.cos(x) - y[0];
+        ArrayTabulatedFunctionFactory factory = new ArrayTabulatedFunctionFactory();
+
+        TabulatedFunction scalar = new DormandPrinceSolver(equation, 1e-9, 1e-9).solve(0.0, 0.0, 7.0, 71, factory);
+        TabulatedFunction vector = new OdeSystemSolver(system, 1, 1e-9, 1e-9).solve(0.0, new double[]{0.0}, 7.0, 71, factory)[0];
+
+        for (int j = 0; j < scalar.getCount(); j++) {
+            assertEquals(scalar.getY(j), vector.getY(j), 1e-12);
+        }
+    }
+
+    @Test
+    @DisplayName("Широкая система: параллельная правая часть даёт тот же результат")
+    void testParallelRightHandSide() {
+        int n = 300;
+        double[] y0 = new double[n];
+        java.util.Arrays.fill(y0, 1.0);
+        LinkedListTabulatedFunctionFactory factory = new LinkedListTabulatedFunctionFactory();
+
+        TabulatedFunction[] serial = new OdeSystemSolver(decay(n), n, 1e-9, 1e-9).solve(0.0, y0, 2.0, 21, factory);
+        TabulatedFunction[] parallel = new OdeSystemSolver(decay(n), n, 1e-9, 1e-9, new ForkJoinPool(4), 32)
+                .solve(0.0, y0, 2.0, 21, factory);
+
+        for (int i = 0; i < n; i += 13) {
+            assertInstanceOf(LinkedListTabulatedFunction.class, parallel[i]);
+            for (int j = 0; j < 21; j++) {
+                assertEquals(serial[i].getY(j), parallel[i].getY(j), 0.0);
+                double x = parallel[i].getX(j);
+                assertEquals(Math.exp(-(i + 1) * x / n), parallel[i].getY(j), 1e-7);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Интегрирование назад и неверные параметры")
+    void testBackwardAndErrors() {
+        OdeSystemSolver solver = new OdeSystemSolver(OSCILLATOR, 2, 1e-10, 1e-10);
+        TabulatedFunction[] backward = solver.solve(Math.PI, new double[]{-1.0, 0.0}, 0.0, 11, new ArrayTabulatedFunctionFactory());
+        assertEquals(0.0, backward[0].leftBound(), 0.0);
+        assertEquals(1.0, backward[0].getY(0), 1e-8);
+        assertEquals(0.0, backward[1].getY(0), 1e-8);
+
+        ArrayTabulatedFunctionFactory factory = new ArrayTabulatedFunctionFactory();
+        assertThrows(IllegalArgumentException.class, () -> new OdeSystemSolver(null, 2, 1e-6, 1e-6));
+        assertThrows(IllegalArgumentException.class, () -> new OdeSystemSolver(OSCILLATOR, 0, 1e-6, 1e-6));
+        assertThrows(IllegalArgumentException.class, () -> new OdeSystemSolver(OSCILLATOR, 2, 1e-6, 1e-6, null, 1));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(0.0, new double[]{1.0}, 1.0, factory));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(0.0, new double[]{1.0, 0.0}, 0.0, factory));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(0.0, new double[]{1.0, 0.0}, 1.0, 1, factory));
+    }
+}
@@ -0,0 +1,172 @@
+package functions;
+
+import exception.ArrayIsNotSortedException;
+import exception.DifferentLengthOfArraysException;
+import exception.InterpolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Тесты для OffHeapTabulatedFunction")
+class OffHeapTabulatedFunctionTest {
+
+    private OffHeapTabulatedFunction createTestFunction() {
+        double[] x = {1.0, 2.0, 3.0, 4.0, 5.0};
+        double[] y = {1.0, 4.0, 6.0, 8.0, 10.0};
+        return new OffHeapTabulatedFunction(x, y);
+    }
+
+    @Test
+    @DisplayName("Конструктор проверяет длины, сортировку и количество точек")
+    void testConstructorValidation() {
+        assertThrows(DifferentLengthOfArraysException.class,
+                () -> new OffHeapTabulatedFunction(new double[]{1, 2}, new double[]{3}));
+        assertThrows(ArrayIsNotSortedException.class,
+                () -> new OffHeapTabulatedFunction(new double[]{2, 1}, new double[]{3, 4}));
+        assertThrows(IllegalArgumentException.class,
+                () -> new OffHeapTabulatedFunction(new double[]{1}, new double[]{3}));
+        assertThrows(IllegalArgumentException.class,
+                () -> new OffHeapTabulatedFunction(x -> x, 0.0, 1.0, 1));
+    }
+
+    @Test
+    @DisplayName("Дискретизация блоками совпадает с ArrayTabulatedFunction")
+    void testTabulatingConstructorMatchesArray() {
+        MathFunction f = x -> Math.cos(x) + x;
+        try (OffHeapTabulatedFunction offHeap = new OffHeapTabulatedFunction(f, 10.0, -10.0, 10_001)) {
+            ArrayTabulatedFunction array = new ArrayTabulatedFunction(f, 10.0, -10.0, 10_001);
+
+            assertEquals(array.getCount(), offHeap.getCount());
+            for (int i = 0; i < array.getCount(); i++) {
+                assertEquals(array.getX(i), offHeap.getX(i), 0.0);
+                assertEquals(array.getY(i), offHeap.getY(i), 0.0);
+            }
+
+            Random random = new Random(7);
+            for (int k = 0; k < 2000; k++) {
+                double x = random.nextDouble() * 24.0 - 12.0;
+                assertEquals(array.apply(x), offHeap.apply(x), 0.0, "apply(" + x + ")");
+                assertEquals(array.indexOfX(x), offHeap.indexOfX(x));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("apply, indexOfX, indexOfY и floorIndexOfX ведут себя как у массива")
+    void testLookup() {
+        try (OffHeapTabulatedFunction function = createTestFunction()) {
+            assertEquals(6.0, function.apply(3.0), 1e-12);
+            assertEquals(5.0, function.apply(2.5), 1e-12);
+            assertEquals(-2.0, function.apply(0.0), 1e-12);
+            assertEquals(12.0, function.apply(6.0), 1e-12);
+
+            assertEquals(2, function.indexOfX(3.0 + 5e-11));
+            assertEquals(-1, function.indexOfX(3.5));
+            assertEquals(3, function.indexOfY(8.0));
+            assertEquals(-1, function.indexOfY(7.0));
+            assertEquals(1, function.floorIndexOfX(2.5));
+            assertEquals(4, function.floorIndexOfX(5.0));
+            assertThrows(IllegalArgumentException.class, () -> function.floorIndexOfX(0.0));
+            assertThrows(InterpolationException.class, () -> function.interpolate(4.5, 0));
+            assertThrows(IndexOutOfBoundsException.class, () -> function.getX(5));
+            assertThrows(IndexOutOfBoundsException.class, () -> function.setY(-1, 0.0));
+        }
+    }
+
+    @Test
+    @DisplayName("insert и remove поддерживают порядок и совпадают с ArrayTabulatedFunction")
+    void testInsertRemoveMatchesArray() {
+        try (OffHeapTabulatedFunction offHeap = createTestFunction()) {
+            ArrayTabulatedFunction array = new ArrayTabulatedFunction(
+                    new double[]{1.0, 2.0, 3.0, 4.0, 5.0}, new double[]{1.0, 4.0, 6.0, 8.0, 10.0});
+
+            Random random = new Random(11);
+            for (int k = 0; k < 500; k++) {
+                double x = Math.round(random.nextDouble() * 2000.0) / 10.0 - 50.0;
+                double y = random.nextDouble();
+                offHeap.insert(x, y);
+                array.insert(x, y);
+            }
+            while (array.getCount() > 3) {
+                int index = random.nextInt(array.getCount());
+                offHeap.remove(index);
+                array.remove(index);
+            }
+
+            assertEquals(array.getCount(), offHeap.getCount());
+            assertArrayEquals(array.getxVal(), offHeap.getXValues(), 0.0);
+            assertArrayEquals(array.getyVal(), offHeap.getYValues(), 0.0);
+            assertTrue(offHeap.getCapacity() <= 32, "Ёмкость должна сжиматься после удалений");
+
+            offHeap.insert(array.getX(1), -7.0);
+            assertEquals(3, offHeap.getCount(), "Существующая точка только обновляет y");
+            assertEquals(-7.0, offHeap.getY(1), 0.0);
+            assertThrows(IndexOutOfBoundsException.class, () -> offHeap.remove(3));
+        }
+    }
+
+    @Test
+    @DisplayName("trimToSize обрезает ёмкость и сохраняет точки")
+    void testTrimToSize() {
+        try (OffHeapTabulatedFunction function = createTestFunction()) {
+            function.insert(6.0, 12.0);
+            assertTrue(function.getCapacity() > function.getCount());
+            function.trimToSize();
+            assertEquals(6, function.getCapacity());
+            assertArrayEquals(new double[]{1.0, 2.0, 3.0, 4.0, 5.0, 6.0}, function.getXValues(), 0.0);
+            assertArrayEquals(new double[]{1.0, 4.0, 6.0, 8.0, 10.0, 12.0}, function.getYValues(), 0.0);
+        }
+    }
+
+    @Test
+    @DisplayName("Итератор возвращает все точки по порядку")
+    void testIterator() {
+        try (OffHeapTabulatedFunction function = createTestFunction()) {
+            Iterator<Point> iterator = function.iterator();
+            int i = 0;
+            while (iterator.hasNext()) {
+                Point point = iterator.next();
+                assertEquals(function.getX(i), point.x, 0.0);
+                assertEquals(function.getY(i), point.y, 0.0);
+                i++;
+            }
+            assertEquals(5, i);
+            assertThrows(NoSuchElementException.class, iterator::next);
+        }
+    }
+
+    @Test
+    @DisplayName("После close память освобождена, обращения выбрасывают IllegalStateException")
+    void testClose() {
+        OffHeapTabulatedFunction function = createTestFunction();
+        assertFalse(function.isClosed());
+        function.close();
+        function.close();
+
+        assertTrue(function.isClosed());
+        assertThrows(IllegalStateException.class, () -> function.getX(0));
+        assertThrows(IllegalStateException.class, () -> function.apply(2.0));
+        assertThrows(IllegalStateException.class, () -> function.insert(2.5, 1.0));
+        assertThrows(IllegalStateException.class, function::iterator);
+    }
+
+    @Test
+    @DisplayName("Исключение функции при дискретизации освобождает память и пробрасывается")
+    void testTabulateFailureReleasesMemory() {
+        MathFunction failing = x -> {
+            if (x > 5000.0) {
+                throw new ArithmeticException("вне области");
+            }
+            return x;
+        };
+
+        ArithmeticException e = assertThrows(ArithmeticException.class,
+                () -> new OffHeapTabulatedFunction(failing, 0.0, 10_000.0, 10_001));
+        assertEquals("вне области", e.getMessage());
+    }
+}
@@ -163,4 +163,28 @@ class RungeKuttaFunctionTest {
         assertEquals(exact3, function.apply(x3), delta, "y(0.5), GOOD");
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Пакетное вычисление наклонов даёт тот же результат, что и пошаговое")
+    void testBatchedSlopesMatchStepByStep() {
+        MathFunction dEquation = x -> Math.cos(x) * x;
+        double x0 = 0.5;
+        double y0 = 2.0;
+        double h = 0.01;
+        RungeKuttaFunction function = new RungeKuttaFunction(dEquation, x0, y0, h);
+
+        double x = 7.3; //больше одной пачки шагов
+        int steps = (int) Math.round((x - x0) / h);
+        double currX = x0;
+        double currY = y0;
+        for (int i = 0; i < steps; i++) {
+            double k1 = h * dEquation.apply(currX);
+            double k2 = h * dEquation.apply(currX + h / 2);
+            double k3 = h * dEquation.apply(currX + h / 2);
+            double k4 = h * dEquation.apply(currX + h);
+            currY = currY + (k1 + 2 * k2 + 2 * k3 + k4) / 6;
+            currX += h;
+        }
+
+        assertEquals(currY, function.apply(x), 0.0, "Результаты должны совпадать побитово, GOOD");
+    }
+}
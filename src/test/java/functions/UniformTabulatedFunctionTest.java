@@ -0,0 +1,126 @@
+package functions;
+
+import exception.InterpolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Тесты для UniformTabulatedFunction")
+class UniformTabulatedFunctionTest {
+
+    private UniformTabulatedFunction createTestFunction() {
+        //x = 1, 2, 3, 4, 5; y = x²
+        return new UniformTabulatedFunction(1.0, 1.0, new double[]{1.0, 4.0, 9.0, 16.0, 25.0});
+    }
+
+    @Test
+    @DisplayName("Конструктор с дискретизацией даёт те же точки, что и ArrayTabulatedFunction")
+    void testTabulatingConstructorMatchesArray() {
+        MathFunction f = x -> Math.sin(x) * x;
+        UniformTabulatedFunction uniform = new UniformTabulatedFunction(f, 3.0, -2.0, 101);
+        ArrayTabulatedFunction array = new ArrayTabulatedFunction(f, 3.0, -2.0, 101);
+
+        assertEquals(array.getCount(), uniform.getCount());
+        for (int i = 0; i < array.getCount(); i++) {
+            assertEquals(array.getX(i), uniform.getX(i), 0.0, "x[" + i + "]");
+            assertEquals(array.getY(i), uniform.getY(i), 0.0, "y[" + i + "]");
+        }
+        for (double x = -3.0; x <= 4.0; x += 0.0137) {
+            assertEquals(array.apply(x), uniform.apply(x), 1e-12, "apply(" + x + ")");
+        }
+    }
+
+    @Test
+    @DisplayName("Некорректные параметры сетки выбрасывают IllegalArgumentException")
+    void testInvalidGridThrows() {
+        assertThrows(IllegalArgumentException.class, () -> new UniformTabulatedFunction(0.0, 1.0, new double[]{1.0}));
+        assertThrows(IllegalArgumentException.class, () -> new UniformTabulatedFunction(0.0, 0.0, new double[]{1.0, 2.0}));
+        assertThrows(IllegalArgumentException.class, () -> new UniformTabulatedFunction(0.0, -1.0, new double[]{1.0, 2.0}));
+        assertThrows(IllegalArgumentException.class, () -> new UniformTabulatedFunction(x -> x, 1.0, 1.0, 5));
+        assertThrows(IllegalArgumentException.class, () -> new UniformTabulatedFunction(x -> x, 0.0, 1.0, 1));
+    }
+
+    @Test
+    @DisplayName("indexOfX и floorIndexOfX находят индекс делением, с допуском 1e-10")
+    void testIndexLookup() {
+        UniformTabulatedFunction function = createTestFunction();
+
+        assertEquals(2, function.indexOfX(3.0));
+        assertEquals(2, function.indexOfX(3.0 + 5e-11));
+        assertEquals(2, function.indexOfX(3.0 - 5e-11));
+        assertEquals(-1, function.indexOfX(3.5));
+        assertEquals(-1, function.indexOfX(100.0));
+        assertEquals(-1, function.indexOfX(-100.0));
+
+        assertEquals(0, function.floorIndexOfX(1.0));
+        assertEquals(1, function.floorIndexOfX(2.999));
+        assertEquals(2, function.floorIndexOfX(3.0));
+        assertEquals(4, function.floorIndexOfX(5.0));
+        assertThrows(IllegalArgumentException.class, () -> function.floorIndexOfX(0.5));
+        assertThrows(IllegalArgumentException.class, () -> function.floorIndexOfX(5.5));
+    }
+
+    @Test
+    @DisplayName("apply интерполирует внутри, экстраполирует снаружи и возвращает y в узлах")
+    void testApply() {
+        UniformTabulatedFunction function = createTestFunction();
+
+        assertEquals(9.0, function.apply(3.0), 1e-12, "Точное попадание в узел");
+        assertEquals(6.5, function.apply(2.5), 1e-12, "Интерполяция между 4 и 9");
+        assertEquals(-2.0, function.apply(0.0), 1e-12, "Экстраполяция слева");
+        assertEquals(34.0, function.apply(6.0), 1e-12, "Экстраполяция справа");
+        assertThrows(InterpolationException.class, () -> function.interpolate(4.5, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> function.interpolate(4.5, 4));
+    }
+
+    @Test
+    @DisplayName("getX/getY/setY, границы и indexOfY")
+    void testAccessors() {
+        UniformTabulatedFunction function = createTestFunction();
+
+        assertEquals(1.0, function.leftBound(), 0.0);
+        assertEquals(5.0, function.rightBound(), 0.0);
+        assertEquals(1.0, function.getXFrom(), 0.0);
+        assertEquals(1.0, function.getStep(), 0.0);
+        assertEquals(4.0, function.getX(3), 0.0);
+
+        function.setY(3, -1.0);
+        assertEquals(-1.0, function.getY(3), 0.0);
+        assertEquals(3, function.indexOfY(-1.0));
+        assertEquals(-1, function.indexOfY(100.0));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> function.getX(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> function.getY(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> function.setY(5, 0.0));
+    }
+
+    @Test
+    @DisplayName("Итератор возвращает все точки по порядку")
+    void testIterator() {
+        UniformTabulatedFunction function = createTestFunction();
+        Iterator<Point> iterator = function.iterator();
+
+        int i = 0;
+        while (iterator.hasNext()) {
+            Point point = iterator.next();
+            assertEquals(function.getX(i), point.x, 0.0);
+            assertEquals(function.getY(i), point.y, 0.0);
+            i++;
+        }
+        assertEquals(5, i);
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    @DisplayName("isUniform распознаёт равномерные и неравномерные сетки")
+    void testIsUniform() {
+        assertTrue(UniformTabulatedFunction.isUniform(new double[]{0.0, 0.1, 0.2, 0.30000000000000004}));
+        assertFalse(UniformTabulatedFunction.isUniform(new double[]{0.0, 1.0, 3.0}));
+        assertFalse(UniformTabulatedFunction.isUniform(new double[]{1.0}));
+        assertFalse(UniformTabulatedFunction.isUniform(new double[]{2.0, 1.0, 0.0}));
+    }
+}
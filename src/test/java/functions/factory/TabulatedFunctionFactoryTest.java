@@ -696,4 +696,52 @@ class TabulatedFunctionFactoryTest {
         assertTrue(strictFunc instanceof StrictTabulatedFunction);
         assertFalse(baseFunc instanceof StrictTabulatedFunction);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("LinkedListTabulatedFunctionFactory(true) должен создавать списки с skip-list индексом")
+    void testIndexedLinkedListTabulatedFunctionFactory() {
+        LinkedListTabulatedFunctionFactory factory = new LinkedListTabulatedFunctionFactory(true);
+        double[] xValues = {1.0, 2.0, 3.0};
+        double[] yValues = {10.0, 20.0, 30.0};
+
+        TabulatedFunction function = factory.create(xValues, yValues);
+
+        assertTrue(factory.isIndexed());
+        assertFalse(new LinkedListTabulatedFunctionFactory().isIndexed());
+        assertTrue(function instanceof LinkedListTabulatedFunction);
+        assertTrue(((LinkedListTabulatedFunction) function).isIndexed());
+        assertEquals(25.0, function.apply(2.5), 0.0001);
+        assertEquals(2, function.indexOfX(3.0));
+    }
+
+    @Test
+    @DisplayName("UniformTabulatedFunctionFactory создаёт равномерную сетку и отклоняет неравномерные x")
+    void testUniformTabulatedFunctionFactory() {
+        UniformTabulatedFunctionFactory factory = new UniformTabulatedFunctionFactory();
+
+        TabulatedFunction function = factory.create(new double[]{1.0, 1.5, 2.0, 2.5}, new double[]{1.0, 2.0, 3.0, 4.0});
+
+        assertTrue(function instanceof UniformTabulatedFunction);
+        assertEquals(4, function.getCount());
+        assertEquals(2.0, function.getX(2), 1e-12);
+        assertEquals(2.5, function.apply(1.75), 1e-12);
+        assertThrows(IllegalArgumentException.class,
+                () -> factory.create(new double[]{1.0, 2.0, 4.0}, new double[]{1.0, 2.0, 3.0}));
+        assertThrows(IllegalArgumentException.class,
+                () -> factory.create(new double[]{1.0, 2.0}, new double[]{1.0}));
+        assertTrue(factory.createUnmodifiable(new double[]{0.0, 1.0}, new double[]{0.0, 1.0}) instanceof UnmodifiableTabulatedFunction);
+    }
+
+    @Test
+    @DisplayName("OffHeapTabulatedFunctionFactory должен создавать объекты OffHeapTabulatedFunction")
+    void testOffHeapTabulatedFunctionFactory() {
+        TabulatedFunctionFactory factory = new OffHeapTabulatedFunctionFactory();
+
+        TabulatedFunction function = factory.create(new double[]{1.0, 2.0, 3.0}, new double[]{10.0, 20.0, 30.0});
+
+        assertTrue(function instanceof OffHeapTabulatedFunction);
+        assertEquals(3, function.getCount());
+        assertEquals(25.0, function.apply(2.5), 1e-12);
+        ((OffHeapTabulatedFunction) function).close();
+    }
+}
@@ -3,6 +3,7 @@ package io;
 import functions.TabulatedFunction;
 import functions.ArrayTabulatedFunction;
 import functions.LinkedListTabulatedFunction;
+import functions.MappedTabulatedFunction;
 import functions.factory.ArrayTabulatedFunctionFactory;
 import functions.factory.LinkedListTabulatedFunctionFactory;
 import org.junit.jupiter.api.AfterAll;
@@ -499,4 +500,66 @@ public class FunctionsIOTest {
 
     }
 
+    @Test
+    @DisplayName("Колоночный формат: запись и отображение в память без копирования в кучу")
+    void testWriteAndMapTabulatedFunction() throws IOException {
+        Path testFile = tempDir.resolve("mapped_function.tabf");
+        ArrayTabulatedFunction original = new ArrayTabulatedFunction(x -> Math.sin(x) * 10, -5.0, 5.0, 20_001);
+
+        FunctionsIO.writeMappedTabulatedFunction(testFile, original);
+        assertEquals(32 + 2L * 8 * 20_001, Files.size(testFile));
+
+        try (MappedTabulatedFunction mapped = FunctionsIO.mapTabulatedFunction(testFile, true)) {
+            assertEquals(original.getCount(), mapped.getCount());
+            for (int i = 0; i < original.getCount(); i += 97) {
+                assertEquals(original.getX(i), mapped.getX(i), 0.0);
+                assertEquals(original.getY(i), mapped.getY(i), 0.0);
+            }
+            for (double x = -6.0; x <= 6.0; x += 0.0123) {
+                assertEquals(original.apply(x), mapped.apply(x), 0.0);
+            }
+            assertEquals(original.indexOfX(original.getX(1234)), mapped.indexOfX(original.getX(1234)));
+            assertThrows(UnsupportedOperationException.class, () -> mapped.setY(0, 1.0));
+        }
+    }
+
+    @Test
+    @DisplayName("Колоночный формат: повреждённый файл распознаётся по заголовку, размеру и контрольной сумме")
+    void testMapCorruptedTabulatedFunction() throws IOException {
+        Path testFile = tempDir.resolve("corrupted_function.tabf");
+        FunctionsIO.writeMappedTabulatedFunction(testFile,
+                new ArrayTabulatedFunction(new double[]{1.0, 2.0, 3.0}, new double[]{10.0, 20.0, 30.0}));
+
+        byte[] bytes = Files.readAllBytes(testFile);
+        bytes[bytes.length - 1] ^= 0x01;
+        Files.write(testFile, bytes);
+        assertThrows(IOException.class, () -> FunctionsIO.mapTabulatedFunction(testFile, true));
+        try (MappedTabulatedFunction mapped = FunctionsIO.mapTabulatedFunction(testFile)) {
+            assertEquals(3, mapped.getCount(), "Без проверки суммы файл открывается за O(1)");
+        }
+
+        Files.write(testFile, java.util.Arrays.copyOf(bytes, bytes.length - 8));
+        assertThrows(IOException.class, () -> FunctionsIO.mapTabulatedFunction(testFile));
+
+        bytes[0] = 'X';
+        Files.write(testFile, bytes);
+        assertThrows(IOException.class, () -> FunctionsIO.mapTabulatedFunction(testFile));
+
+        Files.write(testFile, new byte[]{1, 2, 3});
+        assertThrows(IOException.class, () -> FunctionsIO.mapTabulatedFunction(testFile));
+    }
+
+    @Test
+    @DisplayName("Колоночный формат без контрольной суммы и закрытие отображения")
+    void testMapWithoutChecksumAndClose() throws IOException {
+        Path testFile = tempDir.resolve("unchecked_function.tabf");
+        FunctionsIO.writeMappedTabulatedFunction(testFile,
+                new LinkedListTabulatedFunction(new double[]{0.0, 1.0}, new double[]{5.0, 7.0}), false);
+
+        MappedTabulatedFunction mapped = FunctionsIO.mapTabulatedFunction(testFile, true);
+        assertEquals(6.0, mapped.apply(0.5), DELTA);
+        mapped.close();
+        assertTrue(mapped.isClosed());
+        assertThrows(IllegalStateException.class, () -> mapped.getY(0));
+    }
 }
@@ -0,0 +1,59 @@
+package operations;
+
+import functions.MathFunction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Тесты для класса CompensatedSimpsonTask")
+class CompensatedSimpsonTaskTest {
+
+    private static double integrate(MathFunction func, double a, double b, long n, int parallelism) {
+        try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+            CompensatedSimpsonTask task = new CompensatedSimpsonTask(func, a, b, n, parallelism);
+            pool.invoke(task);
+            return task.getResult();
+        }
+    }
+
+    @Test
+    @DisplayName("Интеграл синуса и многочлена вычисляется с точностью формулы Симпсона")
+    void testAccuracy() {
+        assertEquals(2.0, integrate(Math::sin, 0.0, Math.PI, 100_000, 4), 1e-12);
+        //Симпсон точен для кубических многочленов: ∫₀³ x³ dx = 81/4
+        assertEquals(81.0 / 4.0, integrate(x -> x * x * x, 0.0, 3.0, 1001, 2), 1e-12,
+                "Нечётное n должно округляться до чётного");
+    }
+
+    @Test
+    @DisplayName("Результат не зависит от параллелизма")
+    void testParallelMatchesSequential() {
+        MathFunction func = x -> Math.exp(-x * x) * Math.cos(3 * x);
+        double sequential = integrate(func, -4.0, 4.0, 2_000_000, 1);
+
+        for (int parallelism : new int[]{2, 3, 8}) {
+            double parallel = integrate(func, -4.0, 4.0, 2_000_000, parallelism);
+            assertEquals(sequential, parallel, Math.ulp(sequential) * 2, "parallelism = " + parallelism);
+        }
+    }
+
+    @Test
+    @DisplayName("Компенсированное суммирование не накапливает ошибку округления на больших n")
+    void testCompensatedSummation() {
+        //при наивном сложении 10^7 слагаемых относительная ошибка порядка 1e-10
+        double result = integrate(x -> 0.1, 0.0, 10.0, 10_000_000, 4);
+
+        assertEquals(1.0, result, 1e-14);
+    }
+
+    @Test
+    @DisplayName("Некорректные n и parallelism выбрасывают IllegalArgumentException")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new CompensatedSimpsonTask(Math::sin, 0.0, 1.0, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new CompensatedSimpsonTask(Math::sin, 0.0, 1.0, -5, 1));
+        assertThrows(IllegalArgumentException.class, () -> new CompensatedSimpsonTask(Math::sin, 0.0, 1.0, 10, 0));
+    }
+}
@@ -572,4 +572,77 @@ class ParallelIntegratorTest {
         assertTrue(duration > 0, "Время выполнения должно быть положительным");
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Адаптивный интеграл многочлена считается точно без дробления")
+    void testAdaptivePolynomialExact() {
+        MathFunction poly = x -> x * x * x * x * x - 3 * x * x + 1;
+        //∫₀²(x⁵ - 3x² + 1)dx = 64/6 - 8 + 2
+        double expected = 64.0 / 6.0 - 8.0 + 2.0;
+
+        ParallelIntegrator.IntegrationResult result = ParallelIntegrator.integrateAdaptive(poly, 0.0, 2.0, 1e-12, 0.0);
+
+        assertEquals(expected, result.result(), 1e-12);
+        assertTrue(result.errorEstimate() <= 1e-12, "Оценка ошибки: " + result.errorEstimate());
+        assertEquals(16 * 15, result.evaluations(), "Гладкой функции хватает начальных кусков");
+    }
+
+    @Test
+    @DisplayName("Адаптивный интеграл с пологими хвостами укладывается в допуск малым числом вычислений")
+    void testAdaptiveFlatTails() {
+        MathFunction func = x -> (1.0 + x * x) / (1.0 + x * x * x * x);
+        double limit = 500.0;
+        //∫(1+x²)/(1+x⁴)dx = atan((x - 1/x)/√2)/√2, поэтому на [-X, X] это √2·(atan((X - 1/X)/√2) + π/2)
+        double expected = Math.sqrt(2.0) * (Math.atan((limit - 1.0 / limit) / Math.sqrt(2.0)) + Math.PI / 2.0);
+
+        for (int parallelism : new int[]{1, 2, 4}) {
+            ParallelIntegrator.IntegrationResult result = ParallelIntegrator.integrateAdaptiveWithFixedPool(
+                    func, -limit, limit, 0.0, 1e-10, parallelism);
+
+            assertEquals(expected, result.result(), 1e-9 * expected, "parallelism = " + parallelism);
+            assertTrue(result.errorEstimate() <= 1e-10 * expected * 1.01, "Оценка ошибки: " + result.errorEstimate());
+            assertTrue(result.evaluations() < 20_000, "Вычислений: " + result.evaluations());
+        }
+    }
+
+    @Test
+    @DisplayName("Адаптивный интеграл: особенность производной на краю, обратные и совпадающие границы")
+    void testAdaptiveEdgeCases() {
+        ParallelIntegrator.IntegrationResult sqrt = ParallelIntegrator.integrateAdaptive(Math::sqrt, 0.0, 1.0, 1e-10, 0.0);
+        assertEquals(2.0 / 3.0, sqrt.result(), 1e-10);
+        assertTrue(sqrt.evaluations() > 16 * 15, "У края отрезок должен дробиться");
+
+        ParallelIntegrator.IntegrationResult reversed = ParallelIntegrator.integrateAdaptive(Math::sin, Math.PI, 0.0, 1e-12, 1e-12);
+        assertEquals(-2.0, reversed.result(), 1e-12);
+
+        ParallelIntegrator.IntegrationResult empty = ParallelIntegrator.integrateAdaptive(Math::sin, 1.0, 1.0, 1e-12, 0.0);
+        assertEquals(0.0, empty.result(), 0.0);
+        assertEquals(0L, empty.evaluations());
+
+        assertThrows(IllegalArgumentException.class, () -> ParallelIntegrator.integrateAdaptive(Math::sin, 0.0, 1.0, 0.0, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> ParallelIntegrator.integrateAdaptive(Math::sin, 0.0, 1.0, -1.0, 1e-6));
+        assertThrows(IllegalArgumentException.class,
+                () -> ParallelIntegrator.integrateAdaptiveWithFixedPool(Math::sin, 0.0, 1.0, 1e-6, 0.0, 0));
+    }
+
+    @Test
+    @DisplayName("Симпсон с фиксированным n сообщает число вычислений, но не оценку ошибки")
+    void testFixedPoolReportsEvaluations() {
+        ParallelIntegrator.IntegrationResult result = ParallelIntegrator.integrateWithFixedPool(x -> x, 0.0, 1.0, 999, 2);
+
+        assertEquals(0.5, result.result(), 1e-12);
+        assertEquals(1001, result.evaluations());
+        assertTrue(Double.isNaN(result.errorEstimate()));
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    @DisplayName("Адаптивный метод: функция NaN на части отрезка — ArithmeticException, а не бесконечное деление")
+    void testAdaptiveNotFiniteIntegrand() {
+        assertThrows(ArithmeticException.class,
+                () -> ParallelIntegrator.integrateAdaptive(Math::sqrt, -1.0, 1.0, 1e-8, 0.0));
+        assertThrows(ArithmeticException.class,
+                () -> ParallelIntegrator.integrateAdaptiveWithFixedPool(x -> x > 0.7 ? Double.NaN : x, 0.0, 1.0, 1e-10, 0.0, 2));
+        assertThrows(ArithmeticException.class,
+                () -> ParallelIntegrator.integrateAdaptive(x -> x < 0.3 ? Double.POSITIVE_INFINITY : 1.0, 0.0, 1.0, 1e-10, 0.0));
+    }
+}
@@ -213,4 +213,164 @@ public class TabulatedDifferentialOperatorTest {
             op.deriveSynchronously(null);
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Производная равномерной сетки совпадает с производной той же таблицы в массиве")
+    void testDeriveUniformFastPath() {
+        functions.UniformTabulatedFunction uniform = new functions.UniformTabulatedFunction(x -> x * x * x, -1.0, 2.0, 31);
+        ArrayTabulatedFunction array = new ArrayTabulatedFunction(x -> x * x * x, -1.0, 2.0, 31);
+
+        TabulatedFunction expected = new TabulatedDifferentialOperator().derive(array);
+        TabulatedFunction viaArray = new TabulatedDifferentialOperator().derive(uniform);
+        TabulatedFunction viaUniform = new TabulatedDifferentialOperator(new UniformTabulatedFunctionFactory()).derive(uniform);
+
+        assertTrue(viaUniform instanceof functions.UniformTabulatedFunction);
+        for (int i = 0; i < expected.getCount(); i++) {
+            assertEquals(expected.getX(i), viaArray.getX(i), 0.0);
+            assertEquals(expected.getY(i), viaArray.getY(i), 1e-9);
+            assertEquals(expected.getY(i), viaUniform.getY(i), 1e-9);
+        }
+
+        functions.UniformTabulatedFunction two = new functions.UniformTabulatedFunction(0.0, 0.5, new double[]{1.0, 2.0});
+        TabulatedFunction derivative = new TabulatedDifferentialOperator().derive(two);
+        assertEquals(2.0, derivative.getY(0), DELTA);
+        assertEquals(2.0, derivative.getY(1), DELTA);
+    }
+
+    @Test
+    @DisplayName("Производная на неравномерной сетке точна для квадратичной функции, включая концы")
+    void testDeriveNonUniformGrid() {
+        double[] x = {0.0, 0.1, 0.5, 0.6, 1.5, 3.0, 3.2};
+        double[] y = new double[x.length];
+        for (int i = 0; i < x.length; i++) {
+            y[i] = 3 * x[i] * x[i] - x[i] + 2;
+        }
+
+        TabulatedFunction derivative = new TabulatedDifferentialOperator().derive(new LinkedListTabulatedFunction(x, y));
+
+        for (int i = 0; i < x.length; i++) {
+            assertEquals(x[i], derivative.getX(i), 0.0);
+            assertEquals(6 * x[i] - 1, derivative.getY(i), 1e-9);
+        }
+    }
+
+    @Test
+    @DisplayName("deriveAll совпадает с повторным вызовом derive, derive(f, k) — с deriveAll")
+    void testDeriveAllMatchesRepeatedDerive() {
+        double[] x = new double[40];
+        double[] y = new double[x.length];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = i * 0.1 + 0.002 * i * i;
+            y[i] = Math.sin(x[i]);
+        }
+        TabulatedFunction function = new ArrayTabulatedFunction(x, y);
+        TabulatedDifferentialOperator operator = new TabulatedDifferentialOperator();
+
+        TabulatedFunction[] all = operator.deriveAll(function, 3);
+        TabulatedFunction repeated = function;
+        for (int order = 1; order <= 3; order++) {
+            repeated = operator.derive(repeated);
+            TabulatedFunction single = operator.derive(function, order);
+            for (int i = 0; i < x.length; i++) {
+                assertEquals(x[i], all[order - 1].getX(i), 0.0);
+                assertEquals(repeated.getY(i), all[order - 1].getY(i), 1e-9);
+                assertEquals(all[order - 1].getY(i), single.getY(i), 0.0);
+            }
+        }
+        //внутри сетки вторая производная sin близка к -sin
+        for (int i = 5; i < 35; i++) {
+            assertEquals(-Math.sin(x[i]), all[1].getY(i), 5e-2);
+        }
+    }
+
+    @Test
+    @DisplayName("Высшие производные равномерной сетки: тот же тип и побитово повторный derive")
+    void testDeriveOrderUniform() {
+        functions.UniformTabulatedFunction uniform = new functions.UniformTabulatedFunction(Math::sin, 0.0, 3.0, 61);
+        TabulatedDifferentialOperator uniformOperator = new TabulatedDifferentialOperator(new UniformTabulatedFunctionFactory());
+        TabulatedDifferentialOperator arrayOperator = new TabulatedDifferentialOperator();
+
+        TabulatedFunction[] all = uniformOperator.deriveAll(uniform, 3);
+        TabulatedFunction repeated = uniform;
+        for (int order = 1; order <= 3; order++) {
+            repeated = uniformOperator.derive(repeated);
+            TabulatedFunction single = uniformOperator.derive(uniform, order);
+            TabulatedFunction viaArray = arrayOperator.derive(uniform, order);
+
+            assertInstanceOf(functions.UniformTabulatedFunction.class, single);
+            assertInstanceOf(functions.UniformTabulatedFunction.class, all[order - 1]);
+            assertInstanceOf(ArrayTabulatedFunction.class, viaArray);
+            for (int i = 0; i < uniform.getCount(); i++) {
+                assertEquals(repeated.getY(i), single.getY(i), 0.0);
+                assertEquals(repeated.getY(i), all[order - 1].getY(i), 0.0);
+                assertEquals(repeated.getY(i), viaArray.getY(i), 0.0);
+                assertEquals(uniform.getX(i), viaArray.getX(i), 0.0);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Многократное дифференцирование таблицы из двух точек и неверный порядок")
+    void testDeriveOrderEdgeCases() {
+        TabulatedDifferentialOperator operator = new TabulatedDifferentialOperator(new LinkedListTabulatedFunctionFactory());
+        TabulatedFunction[] all = operator.deriveAll(new ArrayTabulatedFunction(new double[]{1.0, 3.0}, new double[]{2.0, 6.0}), 2);
+
+        assertInstanceOf(LinkedListTabulatedFunction.class, all[0]);
+        assertEquals(2.0, all[0].getY(0), DELTA);
+        assertEquals(2.0, all[0].getY(1), DELTA);
+        assertEquals(0.0, all[1].getY(0), DELTA);
+        assertEquals(0.0, all[1].getY(1), DELTA);
+
+        TabulatedFunction function = new ArrayTabulatedFunction(X_QUADRATIC, Y_QUADRATIC);
+        assertThrows(IllegalArgumentException.class, () -> operator.derive(function, 0));
+        assertThrows(IllegalArgumentException.class, () -> operator.deriveAll(function, -1));
+        assertThrows(IllegalArgumentException.class, () -> operator.deriveAll(null, 2));
+    }
+
+    @Test
+    @DisplayName("Параллельная производная совпадает с последовательной на больших неравномерных таблицах")
+    void testDeriveParallelMatchesDerive() {
+        int count = 100_000;
+        double[] x = new double[count];
+        double[] y = new double[count];
+        for (int i = 0; i < count; i++) {
+            x[i] = i * 1e-4 + 1e-9 * i * (double) i;
+            y[i] = Math.exp(-x[i]) * Math.cos(3 * x[i]);
+        }
+        TabulatedDifferentialOperator operator = new TabulatedDifferentialOperator();
+
+        for (TabulatedFunction function : new TabulatedFunction[]{
+                new ArrayTabulatedFunction(x, y), new LinkedListTabulatedFunction(x, y)}) {
+            TabulatedFunction expected = operator.derive(function);
+            TabulatedFunction parallel = operator.deriveParallel(function);
+            TabulatedFunction snapshot = operator.deriveSynchronouslyParallel(function);
+
+            assertEquals(count, parallel.getCount());
+            for (int i = 0; i < count; i += 97) {
+                assertEquals(expected.getX(i), parallel.getX(i), 0.0);
+                assertEquals(expected.getY(i), parallel.getY(i), 1e-9);
+                assertEquals(expected.getY(i), snapshot.getY(i), 1e-9);
+            }
+            assertEquals(expected.getY(count - 1), parallel.getY(count - 1), 1e-9);
+        }
+    }
+
+    @Test
+    @DisplayName("Параллельная производная: малые таблицы, синхронизированный вход и null")
+    void testDeriveParallelEdgeCases() {
+        TabulatedDifferentialOperator operator = new TabulatedDifferentialOperator();
+        TabulatedFunction two = operator.deriveParallel(new ArrayTabulatedFunction(new double[]{0.0, 2.0}, new double[]{1.0, 5.0}));
+        assertEquals(2.0, two.getY(0), DELTA);
+        assertEquals(2.0, two.getY(1), DELTA);
+
+        SynchronizedTabulatedFunction sync = new SynchronizedTabulatedFunction(
+                new LinkedListTabulatedFunction(X_QUADRATIC, Y_QUADRATIC));
+        TabulatedFunction derivative = operator.deriveSynchronouslyParallel(sync);
+        for (int i = 0; i < X_QUADRATIC.length; i++) {
+            assertEquals(2 * X_QUADRATIC[i], derivative.getY(i), DELTA);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> operator.deriveParallel(null));
+        assertThrows(IllegalArgumentException.class, () -> operator.deriveSynchronouslyParallel(null));
+    }
+}
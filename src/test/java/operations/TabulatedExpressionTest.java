@@ -0,0 +1,82 @@
+package operations;
+
+import exception.InconsistentFunctionsException;
+import functions.ArrayTabulatedFunction;
+import functions.LinkedListTabulatedFunction;
+import functions.TabulatedFunction;
+import functions.factory.ArrayTabulatedFunctionFactory;
+import functions.factory.LinkedListTabulatedFunctionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TabulatedExpressionTest {
+
+    private final TabulatedFunction a = new ArrayTabulatedFunction(x -> x, 0.0, 4.0, 5);
+    private final TabulatedFunction b = new LinkedListTabulatedFunction(x -> x + 1, 0.0, 4.0, 5);
+    private final TabulatedFunction c = new ArrayTabulatedFunction(x -> 2 * x, 0.0, 4.0, 5);
+    private final TabulatedFunction d = new LinkedListTabulatedFunction(x -> 3.0, 0.0, 4.0, 5);
+
+    @Test
+    @DisplayName("Цепочка операций даёт тот же результат, что и пошаговые операции сервиса")
+    void testMatchesEagerOperations() {
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService();
+        TabulatedFunction expected = service.add(service.subtract(service.multiply(a, b), c), d);
+
+        TabulatedFunction actual = service.materialize(service.lazy(a).multiply(b).subtract(c).add(d));
+
+        assertEquals(expected.getCount(), actual.getCount());
+        for (int i = 0; i < expected.getCount(); i++) {
+            assertEquals(expected.getX(i), actual.getX(i), 0.0);
+            assertEquals(expected.getY(i), actual.getY(i), 0.0);
+        }
+    }
+
+    @Test
+    @DisplayName("Вложенные выражения и повторное использование операндов")
+    void testNestedExpressions() {
+        TabulatedExpression sum = TabulatedExpression.of(a).add(b);
+        //(a + b) / (c + d) - (a + b) * a
+        TabulatedExpression expression = sum.divide(TabulatedExpression.of(c).add(d)).subtract(sum.multiply(a));
+
+        TabulatedFunction result = expression.materialize(new ArrayTabulatedFunctionFactory());
+
+        for (int i = 0; i < 5; i++) {
+            double x = i;
+            assertEquals((2 * x + 1) / (2 * x + 3) - (2 * x + 1) * x, result.getY(i), 1e-12);
+        }
+    }
+
+    @Test
+    @DisplayName("Ничего не вычисляется до materialize, результат создаётся заданной фабрикой")
+    void testLazyEvaluation() {
+        TabulatedExpression expression = TabulatedExpression.of(a).add(c);
+        a.setY(2, 100.0);
+
+        TabulatedFunction result = expression.materialize(new LinkedListTabulatedFunctionFactory());
+
+        assertInstanceOf(LinkedListTabulatedFunction.class, result);
+        assertEquals(104.0, result.getY(2), 0.0);
+        assertEquals(3.0, result.getY(1), 0.0);
+    }
+
+    @Test
+    @DisplayName("Проверки операндов и деления на ноль сохраняются")
+    void testValidation() {
+        TabulatedFunction shorter = new ArrayTabulatedFunction(x -> x, 0.0, 4.0, 4);
+        TabulatedFunction shifted = new LinkedListTabulatedFunction(x -> x, 0.0, 5.0, 5);
+        TabulatedFunction zero = new ArrayTabulatedFunction(x -> x - 2, 0.0, 4.0, 5);
+        ArrayTabulatedFunctionFactory factory = new ArrayTabulatedFunctionFactory();
+
+        assertThrows(InconsistentFunctionsException.class,
+                () -> TabulatedExpression.of(a).add(b).multiply(shorter).materialize(factory));
+        assertThrows(InconsistentFunctionsException.class,
+                () -> TabulatedExpression.of(a).add(shifted).materialize(factory));
+        assertThrows(ArithmeticException.class,
+                () -> TabulatedExpression.of(a).divide(zero).materialize(factory));
+        assertThrows(IllegalArgumentException.class, () -> TabulatedExpression.of(null));
+        assertThrows(IllegalArgumentException.class, () -> TabulatedExpression.of(a).add((TabulatedExpression) null));
+        assertThrows(IllegalArgumentException.class, () -> TabulatedExpression.of(a).materialize(null));
+    }
+}
@@ -579,4 +579,207 @@ class TabulatedFunctionOperationServiceTest {
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> service.setFactory(null));
         assertEquals("Factory cannot be null", exception.getMessage());
     }
+
+    @Test
+    @DisplayName("Две равномерные сетки складываются по быстрому пути и дают тот же результат")
+    void testUniformFastPath() {
+        UniformTabulatedFunction a = new UniformTabulatedFunction(x -> x * x, 0.0, 2.0, 21);
+        UniformTabulatedFunction b = new UniformTabulatedFunction(x -> 3 * x, 0.0, 2.0, 21);
+
+        TabulatedFunctionOperationService arrayService = new TabulatedFunctionOperationService();
+        TabulatedFunction viaArray = arrayService.add(a, b);
+        TabulatedFunction expected = arrayService.add(
+                new ArrayTabulatedFunction(x -> x * x, 0.0, 2.0, 21), new ArrayTabulatedFunction(x -> 3 * x, 0.0, 2.0, 21));
+
+        TabulatedFunctionOperationService uniformService = new TabulatedFunctionOperationService(new UniformTabulatedFunctionFactory());
+        TabulatedFunction viaUniform = uniformService.multiply(a, b);
+
+        assertTrue(viaArray instanceof ArrayTabulatedFunction);
+        assertTrue(viaUniform instanceof UniformTabulatedFunction);
+        for (int i = 0; i < expected.getCount(); i++) {
+            assertEquals(expected.getX(i), viaArray.getX(i), 0.0);
+            assertEquals(expected.getY(i), viaArray.getY(i), 0.0);
+            assertEquals(a.getY(i) * b.getY(i), viaUniform.getY(i), 0.0);
+        }
+    }
+
+    @Test
+    @DisplayName("Разные равномерные сетки по-прежнему дают InconsistentFunctionsException")
+    void testUniformDifferentGridsThrow() {
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService();
+        UniformTabulatedFunction a = new UniformTabulatedFunction(x -> x, 0.0, 2.0, 5);
+        UniformTabulatedFunction b = new UniformTabulatedFunction(x -> x, 0.0, 3.0, 5);
+        UniformTabulatedFunction c = new UniformTabulatedFunction(x -> x, 0.0, 2.0, 6);
+
+        assertThrows(InconsistentFunctionsException.class, () -> service.subtract(a, b));
+        assertThrows(InconsistentFunctionsException.class, () -> service.divide(a, c));
+    }
+
+    @Test
+    @DisplayName("asPoints и операции над таблицами без итератора дают те же точки для разных реализаций")
+    void testOperationsOverMixedImplementations() {
+        TabulatedFunction array = new ArrayTabulatedFunction(x -> x, 0.0, 4.0, 5);
+        TabulatedFunction list = new LinkedListTabulatedFunction(x -> 2 * x, 0.0, 4.0, 5);
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService();
+
+        Point[] points = TabulatedFunctionOperationService.asPoints(list);
+        TabulatedFunction sum = service.add(array, list);
+
+        assertEquals(5, points.length);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, points[i].x, 0.0);
+            assertEquals(2.0 * i, points[i].y, 0.0);
+            assertEquals(3.0 * i, sum.getY(i), 0.0);
+        }
+        TabulatedFunction shifted = new LinkedListTabulatedFunction(x -> x, 0.0, 5.0, 5);
+        assertThrows(InconsistentFunctionsException.class, () -> service.add(array, shifted));
+    }
+
+    @Test
+    @DisplayName("Параллельная операция по столбцам совпадает с последовательной")
+    void testParallelOperationMatchesSerial() {
+        int count = 100_000;
+        TabulatedFunction array = new ArrayTabulatedFunction(x -> x * x, -5.0, 5.0, count);
+        TabulatedFunction list = new LinkedListTabulatedFunction(Math::sin, -5.0, 5.0, count);
+
+        TabulatedFunctionOperationService serial = new TabulatedFunctionOperationService();
+        serial.setParallelThreshold(Integer.MAX_VALUE);
+        TabulatedFunctionOperationService parallel = new TabulatedFunctionOperationService();
+        parallel.setParallelThreshold(2);
+
+        TabulatedFunction expected = serial.multiply(array, list);
+        TabulatedFunction actual = parallel.multiply(array, list);
+        TabulatedFunction difference = parallel.subtract(list, array);
+
+        assertEquals(count, actual.getCount());
+        for (int i = 0; i < count; i += 997) {
+            assertEquals(expected.getX(i), actual.getX(i), 0.0);
+            assertEquals(expected.getY(i), actual.getY(i), 0.0);
+            assertEquals(list.getY(i) - array.getY(i), difference.getY(i), 0.0);
+        }
+        assertEquals(expected.getY(count - 1), actual.getY(count - 1), 0.0);
+    }
+
+    @Test
+    @DisplayName("Параллельная операция сохраняет проверки X и деления на ноль")
+    void testParallelOperationKeepsChecks() {
+        int count = 50_000;
+        double[] xValues = new double[count];
+        double[] yValues = new double[count];
+        for (int i = 0; i < count; i++) {
+            xValues[i] = i;
+            yValues[i] = i + 1;
+        }
+        TabulatedFunction a = new ArrayTabulatedFunction(xValues, yValues);
+        xValues[count - 10] += 0.5;
+        TabulatedFunction shifted = new LinkedListTabulatedFunction(xValues, yValues);
+        xValues[count - 10] -= 0.5;
+        yValues[count / 2] = 0.0;
+        TabulatedFunction withZero = new ArrayTabulatedFunction(xValues, yValues);
+
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService();
+        service.setParallelThreshold(2);
+
+        assertThrows(InconsistentFunctionsException.class, () -> service.add(a, shifted));
+        assertThrows(ArithmeticException.class, () -> service.divide(a, withZero));
+    }
+
+    @Test
+    @DisplayName("Порог параллельного режима должен быть положительным")
+    void testParallelThreshold() {
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService();
+        assertEquals(TabulatedFunctionOperationService.DEFAULT_PARALLEL_THRESHOLD, service.getParallelThreshold());
+
+        service.setParallelThreshold(10);
+        assertEquals(10, service.getParallelThreshold());
+        assertThrows(IllegalArgumentException.class, () -> service.setParallelThreshold(0));
+        assertThrows(IllegalArgumentException.class, () -> service.setParallelThreshold(-1));
+    }
+
+    @Test
+    @DisplayName("Объединение сеток: все узлы обеих функций, вне области — экстраполяция")
+    void testUnionAlignment() {
+        TabulatedFunction a = new ArrayTabulatedFunction(new double[]{0.0, 1.0, 2.0, 3.0}, new double[]{0.0, 2.0, 4.0, 6.0});
+        TabulatedFunction b = new LinkedListTabulatedFunction(new double[]{0.5, 1.0, 4.0}, new double[]{1.0, 1.0, 4.0});
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService();
+
+        TabulatedFunction sum = service.add(a, b, TabulatedFunctionOperationService.Alignment.UNION);
+
+        double[] expectedX = {0.0, 0.5, 1.0, 2.0, 3.0, 4.0};
+        assertEquals(expectedX.length, sum.getCount());
+        for (int i = 0; i < expectedX.length; i++) {
+            double x = expectedX[i];
+            assertEquals(x, sum.getX(i), 0.0);
+            assertEquals(a.apply(x) + b.apply(x), sum.getY(i), 1e-12);
+        }
+    }
+
+    @Test
+    @DisplayName("Пересечение сеток: узлы обеих функций на общей части областей")
+    void testIntersectionAlignment() {
+        TabulatedFunction a = new ArrayTabulatedFunction(x -> x * x, 0.0, 10.0, 11);
+        TabulatedFunction b = new LinkedListTabulatedFunction(x -> x + 1, 2.5, 20.0, 8);
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService();
+
+        TabulatedFunction product = service.multiply(a, b, TabulatedFunctionOperationService.Alignment.INTERSECTION);
+
+        assertEquals(2.5, product.leftBound(), 0.0);
+        assertEquals(10.0, product.rightBound(), 0.0);
+        assertEquals(10, product.getCount()); //2.5, 3..10 и 5.0 из b совпадает с узлом a
+        for (int i = 0; i < product.getCount(); i++) {
+            double x = product.getX(i);
+            assertEquals(a.apply(x) * b.apply(x), product.getY(i), 1e-9);
+        }
+
+        TabulatedFunction far = new ArrayTabulatedFunction(x -> x, 11.0, 12.0, 3);
+        assertThrows(InconsistentFunctionsException.class,
+                () -> service.add(a, far, TabulatedFunctionOperationService.Alignment.INTERSECTION));
+    }
+
+    @Test
+    @DisplayName("Операции на заданной сетке совпадают с apply и для больших таблиц")
+    void testCustomGridAlignment() {
+        int n = 200_000;
+        TabulatedFunction a = new ArrayTabulatedFunction(Math::sin, 0.0, 10.0, n);
+        TabulatedFunction b = new LinkedListTabulatedFunction(Math::cos, -1.0, 11.0, n / 3);
+        double[] grid = new double[n + 7];
+        for (int i = 0; i < grid.length; i++) {
+            grid[i] = -2.0 + 14.0 * i / (grid.length - 1);
+        }
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService();
+
+        TabulatedFunction difference = service.subtract(a, b, grid);
+
+        assertEquals(grid.length, difference.getCount());
+        for (int i = 0; i < grid.length; i += 1013) {
+            assertEquals(a.apply(grid[i]) - b.apply(grid[i]), difference.getY(i), 1e-9);
+        }
+        assertThrows(IllegalArgumentException.class, () -> service.add(a, b, new double[]{1.0}));
+        assertThrows(IllegalArgumentException.class, () -> service.add(a, b, new double[]{1.0, 1.0, 2.0}));
+        assertThrows(IllegalArgumentException.class, () -> service.add(a, b, (TabulatedFunctionOperationService.Alignment) null));
+        assertThrows(ArithmeticException.class,
+                () -> service.divide(a, new ArrayTabulatedFunction(x -> x, 0.0, 10.0, 11), new double[]{0.0, 1.0}));
+    }
+
+    @Test
+    @DisplayName("Выравнивание: x, отличающиеся на округление, — один узел со своим значением")
+    void testAlignmentToleratesRounding() {
+        double rounded = 0.1 + 0.2; //0.30000000000000004
+        TabulatedFunction a = new ArrayTabulatedFunction(new double[]{0.0, 0.3, 1.0}, new double[]{0.0, 10.0, 20.0});
+        TabulatedFunction b = new ArrayTabulatedFunction(new double[]{rounded, 0.6, 1.0}, new double[]{1.0, 2.0, 3.0});
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService();
+
+        TabulatedFunction union = service.add(a, b, TabulatedFunctionOperationService.Alignment.UNION);
+        assertEquals(4, union.getCount());
+        assertEquals(0.3, union.getX(1), 0.0);
+        assertEquals(11.0, union.getY(1), 0.0);
+
+        TabulatedFunction intersection = service.add(a, b, TabulatedFunctionOperationService.Alignment.INTERSECTION);
+        assertEquals(3, intersection.getCount());
+        assertEquals(0.3, intersection.leftBound(), 0.0);
+        assertEquals(11.0, intersection.getY(0), 0.0);
+
+        TabulatedFunction onGrid = service.add(a, b, new double[]{rounded, 1.0});
+        assertEquals(11.0, onGrid.getY(0), 0.0);
+    }
 }
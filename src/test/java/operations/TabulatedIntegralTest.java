@@ -0,0 +1,89 @@
+package operations;
+
+import functions.ArrayTabulatedFunction;
+import functions.LinkedListTabulatedFunction;
+import functions.TabulatedFunction;
+import functions.UniformTabulatedFunction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Тесты для интегрирования табулированных функций по узлам")
+class TabulatedIntegralTest {
+
+    private static final double DELTA = 1e-12;
+
+    private static TabulatedFunction createTestFunction() {
+        //кусочно-линейная: (0, 0) -> (1, 2) -> (3, 2)
+        return new ArrayTabulatedFunction(new double[]{0.0, 1.0, 3.0}, new double[]{0.0, 2.0, 2.0});
+    }
+
+    @Test
+    @DisplayName("Трапеции по узлам дают точный интеграл кусочно-линейной интерполяции")
+    void testTrapezoidExact() {
+        TabulatedFunction function = createTestFunction();
+
+        assertEquals(5.0, ParallelIntegrator.integrateTabulated(function, 0.0, 3.0), DELTA);
+        assertEquals(2.75, ParallelIntegrator.integrateTabulated(function, 0.5, 2.0), DELTA,
+                "Границы внутри ячеек берутся из интерполяции");
+        assertEquals(0.1875, ParallelIntegrator.integrateTabulated(function, 0.25, 0.5), DELTA,
+                "Обе границы в одной ячейке");
+        assertEquals(-1.0, ParallelIntegrator.integrateTabulated(function, -1.0, 0.0), DELTA,
+                "Слева — экстраполяция прямой через первые две точки");
+        assertEquals(7.0, ParallelIntegrator.integrateTabulated(function, 0.0, 4.0), DELTA,
+                "Справа — экстраполяция прямой через последние две точки");
+        assertEquals(-2.75, ParallelIntegrator.integrateTabulated(function, 2.0, 0.5), DELTA);
+        assertEquals(0.0, ParallelIntegrator.integrateTabulated(function, 1.5, 1.5), 0.0);
+    }
+
+    @Test
+    @DisplayName("Список копируется одним проходом и даёт тот же результат, что и массив")
+    void testLinkedListMatchesArray() {
+        ArrayTabulatedFunction array = new ArrayTabulatedFunction(x -> Math.sin(x) * x, -7.0, 11.0, 200_001);
+        LinkedListTabulatedFunction list = new LinkedListTabulatedFunction(array.getxVal(), array.getyVal());
+
+        double viaArray = ParallelIntegrator.integrateTabulated(array, -6.3, 10.1);
+        double viaList = ParallelIntegrator.integrateTabulated(list, -6.3, 10.1);
+        //∫x·sin(x)dx = sin(x) - x·cos(x)
+        double exact = (Math.sin(10.1) - 10.1 * Math.cos(10.1)) - (Math.sin(-6.3) + 6.3 * Math.cos(-6.3));
+
+        assertEquals(viaArray, viaList, 1e-9);
+        assertEquals(exact, viaArray, 1e-7);
+    }
+
+    @Test
+    @DisplayName("Симпсон на неравномерной сетке точен для квадратичной функции")
+    void testSimpsonNonUniform() {
+        double[] x = {0.0, 0.5, 2.0, 2.2, 3.0};
+        double[] y = new double[x.length];
+        for (int i = 0; i < x.length; i++) {
+            y[i] = x[i] * x[i];
+        }
+        TabulatedFunction function = new ArrayTabulatedFunction(x, y);
+
+        assertEquals(9.0, ParallelIntegrator.integrateTabulated(function, 0.0, 3.0, TabulatedIntegral.Rule.SIMPSON), DELTA);
+        assertTrue(Math.abs(ParallelIntegrator.integrateTabulated(function, 0.0, 3.0) - 9.0) > 0.1,
+                "Трапеции интегрируют ломаную, а не параболу");
+    }
+
+    @Test
+    @DisplayName("Симпсон по большой равномерной таблице сходится к точному значению")
+    void testSimpsonLargeTable() {
+        UniformTabulatedFunction function = new UniformTabulatedFunction(Math::exp, 0.0, 2.0, 100_001);
+
+        double result = ParallelIntegrator.integrateTabulated(function, 0.0, 2.0, TabulatedIntegral.Rule.SIMPSON);
+
+        assertEquals(Math.exp(2.0) - 1.0, result, 1e-12);
+    }
+
+    @Test
+    @DisplayName("Некорректные аргументы выбрасывают IllegalArgumentException")
+    void testInvalidArguments() {
+        TabulatedFunction function = createTestFunction();
+
+        assertThrows(IllegalArgumentException.class, () -> ParallelIntegrator.integrateTabulated(null, 0.0, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> ParallelIntegrator.integrateTabulated(function, Double.NaN, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new TabulatedIntegral(function, 0.0, 1.0, null));
+    }
+}
@@ -0,0 +1,63 @@
+package operations;
+
+import functions.ArrayTabulatedFunction;
+import functions.LinkedListTabulatedFunction;
+import functions.TabulatedFunction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TabulatedRootFinderTest {
+
+    @Test
+    @DisplayName("Корень находится точно по линейной интерполяции, узлы с нулём — корни")
+    void testSmallTable() {
+        TabulatedFunction function = new LinkedListTabulatedFunction(
+                new double[]{0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0},
+                new double[]{0.0, 2.0, -2.0, -1.0, 0.0, 0.0, 3.0});
+
+        double[] roots = TabulatedRootFinder.findRoots(function);
+
+        assertArrayEquals(new double[]{0.0, 1.5, 4.0, 5.0}, roots, 0.0);
+        for (double root : roots) {
+            assertEquals(0.0, function.apply(root), 1e-12);
+        }
+    }
+
+    @Test
+    @DisplayName("Таблица без смен знака не имеет корней")
+    void testNoRoots() {
+        TabulatedFunction function = new ArrayTabulatedFunction(x -> x * x + 1, -3.0, 3.0, 101);
+        assertEquals(0, TabulatedRootFinder.findRoots(function).length);
+        assertThrows(IllegalArgumentException.class, () -> TabulatedRootFinder.findRoots(null));
+    }
+
+    @Test
+    @DisplayName("Параллельный поиск на большой таблице совпадает с последовательным")
+    void testLargeTable() {
+        int count = 400_001;
+        TabulatedFunction array = new ArrayTabulatedFunction(Math::sin, 0.25, 100.0, count);
+        double[] x = new double[count];
+        double[] y = new double[count];
+        for (int i = 0; i < count; i++) {
+            x[i] = array.getX(i);
+            y[i] = array.getY(i);
+        }
+        TabulatedFunction list = new LinkedListTabulatedFunction(x, y);
+
+        double[] roots = TabulatedRootFinder.findRoots(array);
+
+        assertEquals(31, roots.length); //π, 2π, ..., 31π
+        for (int k = 0; k < roots.length; k++) {
+            assertEquals((k + 1) * Math.PI, roots[k], 1e-7);
+        }
+        assertArrayEquals(roots, TabulatedRootFinder.findRoots(list), 0.0);
+
+        //граница куска индексов приходится на ноль в узле — корень не теряется и не дублируется
+        y[1 << 15] = 0.0;
+        double[] withZero = TabulatedRootFinder.findRoots(new ArrayTabulatedFunction(x, y));
+        assertEquals(32, withZero.length);
+        assertEquals(x[1 << 15], withZero[2], 0.0);
+    }
+}